@@ -0,0 +1,162 @@
+package com.example.onedaypiece.benchmark;
+
+import com.example.onedaypiece.exception.ApiRequestException;
+import com.example.onedaypiece.service.CertificationService;
+import com.example.onedaypiece.service.PointLedgerService;
+import com.example.onedaypiece.service.PostingFeedCache;
+import com.example.onedaypiece.web.domain.certification.Certification;
+import com.example.onedaypiece.web.domain.certification.CertificationRepository;
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.web.domain.point.Point;
+import com.example.onedaypiece.web.domain.point.PointRepository;
+import com.example.onedaypiece.web.domain.pointHistory.PointHistory;
+import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.request.certification.CertificationRequestDto;
+import com.example.onedaypiece.web.dto.request.challenge.ChallengeRequestDto;
+import com.example.onedaypiece.web.dto.request.signup.SignupRequestDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 200 명이 동시에 같은 포스팅을 인증할 때 기존 흐름(엔티티 조회 + exists + 전체 인원 count) vs 지금 흐름(id/프록시 + 유니크 제약).
+// 스레드 200 개가 포스팅 행 잠금(increasePostingCount/approvePosting)을 두고 경쟁하고, SampleTime 으로 p50/p95/p99 를 본다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(CertificationBenchmark.CERTIFIER_COUNT)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CertificationBenchmark {
+
+    static final int CERTIFIER_COUNT = 200;
+    // 한 반복(2초) 동안 인증할 포스팅 수. 인덱스가 연속인 200 건이 같은 포스팅에 몰린다
+    private static final int POSTING_COUNT = 300;
+
+    private ConfigurableApplicationContext context;
+    private CertificationService certificationService;
+    private PointLedgerService pointLedgerService;
+    private PostingFeedCache postingFeedCache;
+    private MemberRepository memberRepository;
+    private PointRepository pointRepository;
+    private ChallengeRepository challengeRepository;
+    private ChallengeRecordRepository challengeRecordRepository;
+    private PostingRepository postingRepository;
+    private CertificationRepository certificationRepository;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+
+    private int iteration;
+    private final AtomicInteger next = new AtomicInteger();
+    private List<Long> postingIds;
+    private List<Member> certifiers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("certification");
+        certificationService = context.getBean(CertificationService.class);
+        pointLedgerService = context.getBean(PointLedgerService.class);
+        postingFeedCache = context.getBean(PostingFeedCache.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        pointRepository = context.getBean(PointRepository.class);
+        challengeRepository = context.getBean(ChallengeRepository.class);
+        challengeRecordRepository = context.getBean(ChallengeRecordRepository.class);
+        postingRepository = context.getBean(PostingRepository.class);
+        certificationRepository = context.getBean(CertificationRepository.class);
+        em = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    // 반복마다 새 챌린지/포스팅들과 인증할 멤버 200 명을 만든다 (같은 포스팅을 두 번 인증할 수 없어서)
+    @Setup(Level.Iteration)
+    public void prepareIteration() {
+        iteration++;
+        next.set(0);
+        Member writer = saveMember("writer" + iteration);
+        Challenge challenge = challengeRepository.save(new Challenge(new ChallengeRequestDto("아침 운동", "매일 아침 운동하기", "",
+                CategoryName.EXERCISE, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(10),
+                "img", "good", "bad", ""), writer));
+        challengeRecordRepository.save(new ChallengeRecord(challenge, writer));
+
+        certifiers = new ArrayList<>(CERTIFIER_COUNT);
+        for (int i = 0; i < CERTIFIER_COUNT; i++) {
+            Member member = saveMember("cert" + iteration + "_" + i);
+            challengeRecordRepository.save(new ChallengeRecord(challenge, member));
+            certifiers.add(member);
+        }
+        postingIds = new ArrayList<>(POSTING_COUNT);
+        for (int i = 0; i < POSTING_COUNT; i++) {
+            postingIds.add(postingRepository.save(new Posting("img" + i, "content", writer, challenge)).getPostingId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 기존: 포스팅/멤버 엔티티를 올리고 exists 로 중복 확인, 참여 인원은 매번 count, 마지막에 승인 여부를 다시 조회
+    @Benchmark
+    public Boolean legacy() {
+        int index = nextIndex();
+        Long postingId = postingIds.get(index / CERTIFIER_COUNT);
+        Member certifier = certifiers.get(index % CERTIFIER_COUNT);
+        return transactionTemplate.execute(status -> {
+            Posting posting = postingRepository.findById(postingId)
+                    .orElseThrow(() -> new ApiRequestException("등록된 포스트가 없습니다."));
+            Member member = memberRepository.findByEmail(certifier.getEmail())
+                    .orElseThrow(() -> new ApiRequestException("등록된 멤버가 없습니다."));
+            if (certificationRepository.existsByPostingAndMember(posting, member)) {
+                throw new ApiRequestException("이미 인증한 게시물입니다!");
+            }
+            Certification certification = certificationRepository.save(Certification.createCertification(member, posting));
+            postingRepository.increasePostingCount(postingId);
+            Long postingCount = postingRepository.findPostingCount(postingId);
+
+            Long approvalCount = (long) challengeRecordRepository.countByChallenge(posting.getChallenge()) / 2;
+            if (approvalCount <= postingCount && postingRepository.approvePosting(postingId, approvalCount) == 1) {
+                pointLedgerService.award(new PointHistory(1L, certification, posting.getMember()));
+            }
+            postingFeedCache.evictChallenge(posting.getChallenge().getChallengeId());
+
+            return em.createQuery("select p.postingApproval from Posting p where p.postingId = :postingId", Boolean.class)
+                    .setParameter("postingId", postingId)
+                    .getSingleResult();
+        });
+    }
+
+    @Benchmark
+    public Boolean current() {
+        int index = nextIndex();
+        Long postingId = postingIds.get(index / CERTIFIER_COUNT);
+        Member certifier = certifiers.get(index % CERTIFIER_COUNT);
+        return certificationService.createCertification(new CertificationRequestDto(postingId, 0L), certifier.getMemberId());
+    }
+
+    // 스레드마다 겹치지 않는 (포스팅, 멤버) 조합을 꺼낸다
+    private int nextIndex() {
+        int index = next.getAndIncrement();
+        if (index >= POSTING_COUNT * CERTIFIER_COUNT) {
+            throw new IllegalStateException("반복 한 번에 쓸 포스팅이 모자랍니다. POSTING_COUNT 를 늘려주세요.");
+        }
+        return index;
+    }
+
+    private Member saveMember(String name) {
+        SignupRequestDto requestDto = new SignupRequestDto(name + "@test.com", "abcd123!", name, "abcd123!", "img");
+        return memberRepository.save(new Member(requestDto, pointRepository.save(new Point())));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.onedaypiece.benchmark;
+
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordIndex;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.dto.request.challenge.ChallengeRequestDto;
+import com.example.onedaypiece.web.dto.response.challenge.ChallengeSourceResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 메인 페이지 한 번 분량(카드 100장)을 만들 때 레코드 전체 스캔 vs 인덱스 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChallengeRecordIndexBenchmark {
+
+    private static final int MEMBERS_PER_CHALLENGE = 10;
+    private static final int CARDS = 100;
+
+    @Param({"10000", "100000"})
+    private int recordCount;
+
+    private List<ChallengeRecord> records;
+    private List<Challenge> cards;
+
+    @Setup
+    public void setUp() throws Exception {
+        records = new ArrayList<>(recordCount);
+        cards = new ArrayList<>(CARDS);
+
+        List<Member> members = new ArrayList<>(MEMBERS_PER_CHALLENGE);
+        for (long i = 0; i < MEMBERS_PER_CHALLENGE; i++) {
+            members.add(withId(new Member("bench" + i + "@test.com", "pw", "bench" + i, "img"), "memberId", i));
+        }
+
+        for (long i = 0; i < recordCount / MEMBERS_PER_CHALLENGE; i++) {
+            Challenge challenge = withId(new Challenge(requestDto(i), members.get(0)), "challengeId", i);
+            members.forEach(member -> records.add(new ChallengeRecord(challenge, member)));
+            if (cards.size() < CARDS) {
+                cards.add(challenge);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ChallengeSourceResponseDto> fullScan() {
+        return cards.stream()
+                .map(challenge -> new ChallengeSourceResponseDto(challenge, records.stream()
+                        .filter(r -> r.getChallenge().equals(challenge))
+                        .map(r -> r.getMember().getMemberId())
+                        .collect(Collectors.toSet())))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ChallengeSourceResponseDto> indexed() {
+        ChallengeRecordIndex recordIndex = ChallengeRecordIndex.of(records);
+        return cards.stream()
+                .map(challenge -> new ChallengeSourceResponseDto(challenge, recordIndex))
+                .collect(Collectors.toList());
+    }
+
+    private static ChallengeRequestDto requestDto(long i) {
+        return new ChallengeRequestDto("title" + i, "content" + i, "", CategoryName.EXERCISE,
+                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(10),
+                "img", "good", "bad", "");
+    }
+
+    private static <T> T withId(T entity, String fieldName, long id) throws Exception {
+        Field field = entity.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(entity, id);
+        return entity;
+    }
+}
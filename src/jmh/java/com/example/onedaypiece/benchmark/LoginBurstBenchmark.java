@@ -0,0 +1,77 @@
+package com.example.onedaypiece.benchmark;
+
+import com.example.onedaypiece.exception.ApiBusyException;
+import com.example.onedaypiece.security.BoundedPasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 64 건이 몰린 직후 들어온 조회 요청이 요청 스레드를 잡기까지 걸린 시간: BCrypt 직접 실행 vs 전용 풀(BoundedPasswordEncoder)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginBurstBenchmark {
+
+    private static final int STRENGTH = 10;
+    // 톰캣 요청 스레드 역할
+    private static final int REQUEST_THREAD_COUNT = 16;
+    private static final int LOGIN_COUNT = 64;
+
+    @Param({"direct", "bounded"})
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private ExecutorService requests;
+    private String hash;
+    private List<Future<?>> logins;
+
+    @Setup
+    public void setUp() {
+        hash = new BCryptPasswordEncoder(STRENGTH).encode("abcd123!");
+        passwordEncoder = "bounded".equals(encoder)
+                ? new BoundedPasswordEncoder(new BCryptPasswordEncoder(STRENGTH), 2, 2, 10000)
+                : new BCryptPasswordEncoder(STRENGTH);
+        requests = Executors.newFixedThreadPool(REQUEST_THREAD_COUNT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requests.shutdownNow();
+        if (passwordEncoder instanceof BoundedPasswordEncoder) {
+            ((BoundedPasswordEncoder) passwordEncoder).shutdown();
+        }
+    }
+
+    // 다음 측정에 남은 로그인이 섞이지 않게 다 끝날 때까지 기다린다 (측정 시간에는 안 들어간다)
+    @TearDown(Level.Invocation)
+    public void drainLogins() throws Exception {
+        for (Future<?> login : logins) {
+            login.get();
+        }
+    }
+
+    @Benchmark
+    public Long readDuringLoginBurst() throws Exception {
+        logins = new ArrayList<>(LOGIN_COUNT);
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            logins.add(requests.submit(this::login));
+        }
+        return requests.submit(System::nanoTime).get();
+    }
+
+    // 대기열이 차서 거절된 로그인은 429 로 바로 끝난다
+    private void login() {
+        try {
+            passwordEncoder.matches("abcd123!", hash);
+        } catch (ApiBusyException e) {
+            // 거절
+        }
+    }
+}
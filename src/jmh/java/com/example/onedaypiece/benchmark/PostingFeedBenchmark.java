@@ -0,0 +1,85 @@
+package com.example.onedaypiece.benchmark;
+
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.web.domain.point.Point;
+import com.example.onedaypiece.web.domain.point.PointRepository;
+import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.query.PostingFeedQueryDto;
+import com.example.onedaypiece.web.dto.request.challenge.ChallengeRequestDto;
+import com.example.onedaypiece.web.dto.request.signup.SignupRequestDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 피드 한 페이지 조회: 포스팅 + 멤버 엔티티 fetch join vs 프로젝션. 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 본다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostingFeedBenchmark {
+
+    private static final int POSTING_COUNT = 20;
+    private static final int PAGE_SIZE = 6;
+
+    private ConfigurableApplicationContext context;
+    private PostingRepository postingRepository;
+    private EntityManager em;
+    private TransactionTemplate readOnlyTransaction;
+
+    private Long challengeId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("postingFeed");
+        postingRepository = context.getBean(PostingRepository.class);
+        em = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+
+        SignupRequestDto requestDto = new SignupRequestDto("feed@test.com", "abcd123!", "feed", "abcd123!", "img");
+        Point point = context.getBean(PointRepository.class).save(new Point());
+        Member member = context.getBean(MemberRepository.class).save(new Member(requestDto, point));
+        Challenge challenge = context.getBean(ChallengeRepository.class).save(new Challenge(new ChallengeRequestDto(
+                "아침 운동", "매일 아침 운동하기", "", CategoryName.EXERCISE,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(10),
+                "img", "good", "bad", ""), member));
+        for (int i = 0; i < POSTING_COUNT; i++) {
+            postingRepository.save(new Posting("img" + i, "content" + i, member, challenge));
+        }
+        challengeId = challenge.getChallengeId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 예전 방식: 포스팅 + 멤버 엔티티를 fetch join 으로 올린다 (요청마다 영속성 컨텍스트가 새로 열리는 것과 같게 트랜잭션 단위로)
+    @Benchmark
+    public List<Posting> entity() {
+        return readOnlyTransaction.execute(status -> em.createQuery("select p from Posting p " +
+                        "left join fetch p.member " +
+                        "where p.challenge.challengeId = :challengeId and p.postingStatus = true " +
+                        "order by p.createdAt desc", Posting.class)
+                .setParameter("challengeId", challengeId)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList());
+    }
+
+    @Benchmark
+    public Slice<PostingFeedQueryDto> projection() {
+        return readOnlyTransaction.execute(status -> postingRepository.findPostingFeedList(
+                challengeId, PageRequest.of(0, PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.onedaypiece.benchmark;
+
+import com.example.onedaypiece.security.TokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.Key;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 요청 한 번의 JWT 인증 비용: 예전 방식(파서 두 번 생성 + 서명 두 번 검증) vs 파서 재사용 한 번 검증 vs 검증 결과 캐시
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenAuthenticationBenchmark {
+
+    private static final String SECRET = "c2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQtc2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQK";
+
+    private Key key;
+    private TokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        tokenProvider = new TokenProvider(SECRET, Clock.systemDefaultZone());
+        accessToken = tokenProvider.generateTokenDto(new UsernamePasswordAuthenticationToken("bench@test.com", "",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))).getAccessToken();
+    }
+
+    // JwtFilter 의 예전 흐름 (validateToken -> getAuthentication)
+    @Benchmark
+    public Authentication legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        return new UsernamePasswordAuthenticationToken(new User(claims.getSubject(), "", authorities), "", authorities);
+    }
+
+    // 캐시 없이 공유 파서로 한 번만 검증
+    @Benchmark
+    public Authentication singleParse() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+
+    // JwtFilter 의 지금 흐름 (같은 토큰은 만료 전까지 캐시에서)
+    @Benchmark
+    public Authentication cached() {
+        return tokenProvider.resolveAuthentication(accessToken);
+    }
+}
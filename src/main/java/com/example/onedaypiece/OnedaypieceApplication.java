@@ -11,7 +11,9 @@ import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 import javax.annotation.PostConstruct;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.TimeZone;
 
 @EnableSwagger2
@@ -29,6 +31,11 @@ public class OnedaypieceApplication {
         return new ConcurrentTaskScheduler();
     }
 
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZoneId.of("Asia/Seoul"));
+    }
+
     @PostConstruct
     public void started() {
         TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
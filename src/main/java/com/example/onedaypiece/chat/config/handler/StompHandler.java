@@ -4,8 +4,7 @@ import com.example.onedaypiece.chat.model.ChatMessage;
 import com.example.onedaypiece.chat.repository.RedisRepository;
 import com.example.onedaypiece.chat.service.ChatMessageService;
 import com.example.onedaypiece.security.TokenProvider;
-import com.example.onedaypiece.web.domain.member.Member;
-import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.service.MemberIdentityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -27,7 +26,7 @@ public class StompHandler implements ChannelInterceptor {
     private final TokenProvider tokenProvider;
     private final ChatMessageService chatMessageService;
     private final RedisRepository redisRepository;
-    private final MemberRepository memberRepository;
+    private final MemberIdentityService memberIdentityService;
 
     private Authentication authentication;
 
@@ -56,9 +55,9 @@ public class StompHandler implements ChannelInterceptor {
             redisRepository.plusMemberCount(roomId);
 
             // 클라이언트 입장 메시지를 채팅방에 발송한다.(redis publish)
-            Member member = memberRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("등록되지 않은 회원입니다."));
-            String nickname = member.getNickname();
+            String nickname = memberIdentityService.findIdentity(authentication.getName())
+                    .orElseThrow(() -> new RuntimeException("등록되지 않은 회원입니다."))
+                    .getNickname();
             chatMessageService.sendChatMessage(ChatMessage.builder().type(ChatMessage.MessageType.ENTER).roomId(roomId).sender(nickname).build());
             log.info("SUBSCRIBED {}, {}", nickname, roomId);
 
@@ -73,9 +72,9 @@ public class StompHandler implements ChannelInterceptor {
 
             // 클라이언트 퇴장 메시지를 채팅방에 발송한다.(redis publish)
             String email = Optional.ofNullable((Principal) message.getHeaders().get("simpUser")).map(Principal::getName).orElse("UnknownUser");
-            Member member = memberRepository.findByEmail(email)
-                    .orElseThrow(()->new RuntimeException("등록되지 않은 회원입니다."));
-            String nickname = member.getNickname();
+            String nickname = memberIdentityService.findIdentity(email)
+                    .orElseThrow(()->new RuntimeException("등록되지 않은 회원입니다."))
+                    .getNickname();
             chatMessageService.sendChatMessage(ChatMessage.builder().type(ChatMessage.MessageType.QUIT).roomId(roomId).sender(nickname).build());
 
             // 퇴장한 클라이언트의 roomId 맵핑 정보를 삭제한다.
@@ -6,8 +6,7 @@ import com.example.onedaypiece.chat.repository.ChatMessageRepository;
 import com.example.onedaypiece.chat.repository.RedisRepository;
 import com.example.onedaypiece.exception.ApiRequestException;
 import com.example.onedaypiece.security.TokenProvider;
-import com.example.onedaypiece.web.domain.member.Member;
-import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.service.MemberIdentityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -25,7 +24,7 @@ public class ChatMessageService {
     private final ChannelTopic channelTopic;
     private final RedisTemplate redisTemplate;
     private final TokenProvider tokenProvider;
-    private final MemberRepository memberRepository;
+    private final MemberIdentityService memberIdentityService;
     private final RedisRepository redisRepository;
     private final ChatMessageRepository chatMessageRepository;
 
@@ -39,12 +38,10 @@ public class ChatMessageService {
     // message publish - redis
     public void pubMessage(ChatMessageRequestDto requestDto, String email) {
         // 로그인 토큰 확인
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiRequestException("일치하는 회원 정보가 없습니다.")
-                );
-
         // 로그인 회원 정보로 대화명 설정
-        String nickname = member.getNickname();
+        String nickname = memberIdentityService.findIdentity(email)
+                .orElseThrow(() -> new ApiRequestException("일치하는 회원 정보가 없습니다."))
+                .getNickname();
         log.info("nickname sender : " + nickname);
         requestDto.setSender(nickname);
 
@@ -0,0 +1,14 @@
+package com.example.onedaypiece.config;
+
+import com.example.onedaypiece.util.ImageUrl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+// ImageUrl 은 DTO 생성자에서 static 으로 불리므로 뜰 때 한 번 주소를 넣어둔다
+@Configuration
+public class ImageUrlConfig {
+
+    public ImageUrlConfig(@Value("${image.base-url:}") String baseUrl) {
+        ImageUrl.setBaseUrl(baseUrl);
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.onedaypiece.config;
 
+import com.example.onedaypiece.security.BoundedPasswordEncoder;
 import com.example.onedaypiece.security.JwtAccessDeniedHandler;
 import com.example.onedaypiece.security.JwtAuthenticationEntryPoint;
 import com.example.onedaypiece.security.TokenProvider;
+import com.example.onedaypiece.web.domain.member.MemberRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -23,9 +26,14 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final CorsConfig corsConfig;
 
 
+    // cost 를 올리면 예전 cost 로 저장된 비밀번호는 다음 로그인 후 해시 풀에 여유가 있을 때 다시 해시된다 (MemberService.loginMember)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength,
+                                           @Value("${security.bcrypt.threads:0}") int threads,
+                                           @Value("${security.bcrypt.queue-size:32}") int queueSize,
+                                           @Value("${security.bcrypt.wait-millis:3000}") long waitMillis) {
+        int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threadCount, queueSize, waitMillis);
     }
 
     // h2 database 테스트가 원활하도록 관련 API 들은 전부 무시
@@ -66,6 +74,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers("/api/guest/**").permitAll()
                 .antMatchers("/api/category-image/**").permitAll()
                 .antMatchers(HttpMethod.GET,"/api/posting/**").permitAll()
+                .antMatchers(HttpMethod.GET,"/api/images/**").permitAll()
+                // 관리자 API (권한은 ROLE_ 접두어 없이 MemberRole 이름 그대로 들어있어서 hasRole 이 아니라 hasAuthority)
+                .antMatchers("/api/admin/**").hasAuthority(MemberRole.ADMIN.name())
                 .antMatchers("/**").permitAll()
 
                 // 스웨거 접속 풀어주기
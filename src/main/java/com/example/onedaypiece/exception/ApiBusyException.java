@@ -0,0 +1,9 @@
+package com.example.onedaypiece.exception;
+
+
+// 서버가 감당할 수 있는 만큼만 받고 나머지는 바로 돌려보낼 때 (HTTP 429)
+public class ApiBusyException extends RuntimeException {
+    public ApiBusyException(String message) {
+        super(message);
+    }
+}
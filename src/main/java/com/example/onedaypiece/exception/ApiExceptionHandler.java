@@ -24,4 +24,18 @@ public class ApiExceptionHandler {
                 HttpStatus.BAD_REQUEST
         );
     }
+
+    @ExceptionHandler(value = { ApiBusyException.class})
+    public ResponseEntity<Object> handleApiBusyException(ApiBusyException ex) {
+        ApiException apiException = new ApiException(
+                ex.getMessage(),
+                // HTTP 429 -> 잠시 후 다시 시도
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+
+        return new ResponseEntity<>(
+                apiException,
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+    }
 }
@@ -0,0 +1,100 @@
+package com.example.onedaypiece.security;
+
+import com.example.onedaypiece.exception.ApiBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * BCrypt 해시/비교를 전용 스레드 풀에서 돌린다.
+ * 로그인이 몰려도 동시에 도는 BCrypt 는 스레드 수만큼이고, 대기열까지 차면 바로 429 로 돌려보낸다.
+ * 요청 스레드가 전부 BCrypt 에 묶여서 가벼운 조회 API 까지 밀리는 걸 막는다.
+ * 예전 cost 로 저장된 비밀번호의 재해시는 로그인과 떼어서, 풀에 자리가 있을 때만 upgradeLater 로 한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final long waitMillis;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threadCount, int queueSize, long waitMillis) {
+        this.delegate = delegate;
+        this.waitMillis = waitMillis;
+        // 대기열이 차면 요청 스레드에서 대신 돌리지 않고 거절한다
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 시큐리티가 로그인 도중에 재해시하지 않게 한다. 그 사이 대기열이 차면 encode 가 429 를 던져서 맞는 비밀번호로도 로그인이 실패한다
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return false;
+    }
+
+    // 로그인 성공 후 예전 cost 면 풀에 넣어 다시 해시한다. 풀이 차 있으면 다음 로그인으로 미루고 예외는 던지지 않는다
+    public void upgradeLater(CharSequence rawPassword, String encodedPassword, Consumer<String> onEncoded) {
+        if (!delegate.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(delegate.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("password upgrade failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("password upgrade skipped : queue is full");
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ApiBusyException(BUSY_MESSAGE);
+        }
+        try {
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ApiBusyException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
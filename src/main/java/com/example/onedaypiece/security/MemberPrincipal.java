@@ -0,0 +1,23 @@
+package com.example.onedaypiece.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 로그인한 멤버. username 은 지금처럼 email 이고, 토큰 클레임에 들어있는 멤버 id 를 같이 들고 있다.
+ * 서비스는 이 id 로 바로 참조(getById)를 만들어서 email 로 멤버를 다시 조회하지 않는다.
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long memberId;
+
+    public MemberPrincipal(Long memberId, String email, String password,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.memberId = memberId;
+    }
+}
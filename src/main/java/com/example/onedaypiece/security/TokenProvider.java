@@ -1,5 +1,7 @@
 package com.example.onedaypiece.security;
 
+import com.example.onedaypiece.util.LruTtlCache;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
 import com.example.onedaypiece.web.dto.response.token.TokenDto;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -15,6 +17,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -25,16 +29,26 @@ import java.util.stream.Collectors;
 public class TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String MEMBER_ID_KEY = "mid";
     private static final String BEARER_TYPE = "bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30 * 10;       // 30분 = 1000 * 60 * 30 -> 프론트 테스트 때문에 300분으로 해놓음!
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 1;  // 7일 -> 내가1일로수정함
+    public static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 1;  // 7일 -> 내가1일로수정함
 
 
+    // 검증이 끝난 액세스 토큰 -> 인증 정보. 토큰 만료 시각에 같이 만료된다
+    private static final int AUTHENTICATION_CACHE_SIZE = 10000;
+
     private final Key key;
+    // 파서는 불변이라 여러 스레드가 같이 써도 된다. 요청마다 새로 만들지 않는다
+    private final JwtParser jwtParser;
+    private final LruTtlCache<String, UserDetails> authenticationCache;
 
-    public TokenProvider(@Value("${jwt.secret}") String secretKey) {
+    public TokenProvider(@Value("${jwt.secret}") String secretKey, Clock clock) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.authenticationCache = new LruTtlCache<>(AUTHENTICATION_CACHE_SIZE,
+                Duration.ofMillis(ACCESS_TOKEN_EXPIRE_TIME), clock);
     }
 
     public TokenDto generateTokenDto(Authentication authentication) {
@@ -47,10 +61,15 @@ public class TokenProvider {
 
         // Access Token 생성
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        String accessToken = Jwts.builder()
+        JwtBuilder accessTokenBuilder = Jwts.builder()
                 .setSubject(authentication.getName())       // payload "sub": "name"
                 .claim(AUTHORITIES_KEY, authorities)        // payload "auth": "ROLE_USER"
-                .setExpiration(accessTokenExpiresIn)        // payload "exp": 1516239022 (예시)
+                .setExpiration(accessTokenExpiresIn);       // payload "exp": 1516239022 (예시)
+        if (authentication.getPrincipal() instanceof MemberPrincipal) {
+            MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+            accessTokenBuilder.claim(MEMBER_ID_KEY, principal.getMemberId());  // payload "mid": 1
+        }
+        String accessToken = accessTokenBuilder
                 .signWith(key, SignatureAlgorithm.HS512)    // header "alg": "HS512"
                 .compact();
         System.out.println("리프레시 생성");
@@ -68,30 +87,37 @@ public class TokenProvider {
                 .build();
     }
 
+    // 만료된 토큰도 클레임은 읽는다 (재발급용)
     public Authentication getAuthentication(String accessToken) {
-        // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return toAuthentication(toPrincipal(parseClaims(accessToken)));
+    }
 
-        if (claims.get(AUTHORITIES_KEY) == null) {
-            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+    // 요청 인증용. 서명 검증과 클레임 해석을 한 번에 하고, 유효하지 않으면 null
+    public Authentication resolveAuthentication(String accessToken) {
+        UserDetails principal = authenticationCache.getIfPresent(accessToken);
+        if (principal == null) {
+            Claims claims = verifyClaims(accessToken);
+            if (claims == null || claims.get(AUTHORITIES_KEY) == null) {
+                return null;
+            }
+            principal = toPrincipal(claims);
+            authenticationCache.put(accessToken, principal, claims.getExpiration().getTime());
         }
+        // 토큰 객체는 요청마다 새로 만든다 (요청 중에 details 등이 바뀔 수 있어서 공유하지 않는다)
+        return toAuthentication(principal);
+    }
 
-        // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-        // UserDetails 객체를 만들어서 Authentication 리턴
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+    public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    public CacheStatsResponseDto getCacheStats() {
+        return new CacheStatsResponseDto("accessToken", authenticationCache);
     }
 
-    public boolean validateToken(String token) {
+    private Claims verifyClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -101,12 +127,35 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    private UserDetails toPrincipal(Claims claims) {
+        if (claims.get(AUTHORITIES_KEY) == null) {
+            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+        }
+
+        // 클레임에서 권한 정보 가져오기
+        Collection<? extends GrantedAuthority> authorities =
+                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+
+        // id 클레임이 없는 예전 토큰은 email 만 가진 User 로 (MemberIdResolver 가 email 로 찾는다)
+        Number memberId = claims.get(MEMBER_ID_KEY, Number.class);
+        if (memberId == null) {
+            return new User(claims.getSubject(), "", authorities);
+        }
+        return new MemberPrincipal(memberId.longValue(), claims.getSubject(), "", authorities);
+    }
+
+    private Authentication toAuthentication(UserDetails principal) {
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -1,15 +1,27 @@
 package com.example.onedaypiece.service;
 
 import com.example.onedaypiece.exception.ApiRequestException;
+import com.example.onedaypiece.security.TokenProvider;
+import com.example.onedaypiece.util.Scheduler;
+import com.example.onedaypiece.util.TimeProvider;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
 import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.KickReportResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.LifecycleReportResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.PointReconcileResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.SchedulerReplayResponseDto;
 import com.example.onedaypiece.web.dto.response.challenge.ChallengeResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,6 +34,15 @@ public class AdminService {
 
     private final ChallengeRepository challengeRepository;
     private final ChallengeRecordRepository challengeRecordRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CertificationKickService certificationKickService;
+    private final Scheduler scheduler;
+    private final TimeProvider timeProvider;
+    private final PostingFeedCache postingFeedCache;
+    private final CertificationInboxService certificationInboxService;
+    private final TokenProvider tokenProvider;
+    private final PointLedgerService pointLedgerService;
+    private final MemberIdentityService memberIdentityService;
 
     public List<ChallengeResponseDto> getAllChallengeByAdmin() {
         return challengeRepository.findAll()
@@ -36,5 +57,40 @@ public class AdminService {
                 .orElseThrow(() -> new ApiRequestException("존재하지 않는 챌린지입니다."));
         challengeRepository.deleteById(challengeId);
         challengeRecordRepository.deleteAllByChallenge(challenge);
+        applicationEventPublisher.publishEvent(ChallengeEvent.deleted(challengeId));
+    }
+
+    // 오늘 자정 기준으로 강퇴될 대상만 미리 확인 (실제로 강퇴하지 않음)
+    public KickReportResponseDto getCertificationKickDryRun() {
+        return certificationKickService.kick(timeProvider.today(), true);
+    }
+
+    public List<CacheStatsResponseDto> getCacheStats() {
+        List<CacheStatsResponseDto> statsList = new ArrayList<>();
+        statsList.add(postingFeedCache.getStats());
+        statsList.add(tokenProvider.getCacheStats());
+        statsList.add(memberIdentityService.getStats());
+        CacheStatsResponseDto inboxStats = certificationInboxService.getStats();
+        if (inboxStats != null) {
+            statsList.add(inboxStats);
+        }
+        return statsList;
+    }
+
+    // 포인트 잔액 대조를 바로 실행
+    public PointReconcileResponseDto reconcilePoint() {
+        return pointLedgerService.reconcile();
+    }
+
+    // 해당 날짜 자정에 돌았어야 할 작업을 순서대로 다시 실행 (이미 반영된 건 건너뛴다)
+    public SchedulerReplayResponseDto replayScheduler(LocalDate date) {
+        if (!date.atStartOfDay().isBefore(timeProvider.now())) {
+            throw new ApiRequestException("아직 지나지 않은 날짜는 재실행할 수 없습니다.");
+        }
+        LocalDateTime asOf = date.atStartOfDay();
+        int lockedPostingCount = scheduler.postingStatusUpdate(asOf);
+        KickReportResponseDto kickReport = scheduler.certificationKick(asOf);
+        LifecycleReportResponseDto lifecycleReport = scheduler.challengeStatusUpdate(asOf);
+        return new SchedulerReplayResponseDto(date, lockedPostingCount, kickReport, lifecycleReport);
     }
 }
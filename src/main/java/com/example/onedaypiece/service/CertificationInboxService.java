@@ -0,0 +1,66 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.util.AfterCommit;
+import com.example.onedaypiece.util.LruTtlCache;
+import com.example.onedaypiece.util.TimeProvider;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import com.example.onedaypiece.web.dto.response.certification.CertificationInboxResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 내가 아직 인증하지 않은 오늘 포스팅 모아보기.
+ * 챌린지마다 피드를 돌면서 찾던 걸 쿼리 한 번으로 대신하고, 멤버별로 짧게 캐시한다.
+ * 캐시 시간이 0 이면 매번 조회한다. 내가 인증하면 내 항목은 커밋 후 바로 지운다.
+ */
+@Service
+public class CertificationInboxService {
+
+    private static final int MAX_SIZE = 10000;
+
+    private final PostingRepository postingRepository;
+    private final TimeProvider timeProvider;
+    private final LruTtlCache<Long, List<CertificationInboxResponseDto>> cache;
+
+    public CertificationInboxService(PostingRepository postingRepository,
+                                     TimeProvider timeProvider,
+                                     Clock clock,
+                                     @Value("${certification.inbox.cache-seconds:30}") long cacheSeconds) {
+        this.postingRepository = postingRepository;
+        this.timeProvider = timeProvider;
+        this.cache = cacheSeconds > 0 ? new LruTtlCache<>(MAX_SIZE, Duration.ofSeconds(cacheSeconds), clock) : null;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CertificationInboxResponseDto> getInbox(Long memberId) {
+        if (cache == null) {
+            return loadInbox(memberId);
+        }
+        return cache.get(memberId, this::loadInbox);
+    }
+
+    // 인증한 멤버의 모아보기는 커밋 후 지운다
+    public void evict(Long memberId) {
+        if (cache == null) {
+            return;
+        }
+        AfterCommit.evict(() -> cache.evict(memberId));
+    }
+
+    public CacheStatsResponseDto getStats() {
+        return cache == null ? null : new CacheStatsResponseDto("certificationInbox", cache);
+    }
+
+    private List<CertificationInboxResponseDto> loadInbox(Long memberId) {
+        return postingRepository.findCertificationInboxList(memberId, timeProvider.today()).stream()
+                .map(CertificationInboxResponseDto::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.dto.query.KickTargetQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.KickReportResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중 챌린지에서 전날 승인된 인증글이 없는 (멤버, 챌린지) 참여 기록을 강퇴한다.
+ * 대상은 쿼리 한 번(anti join)으로 정확히 골라내고, 참여 기록 id 기준으로 나눠서 업데이트한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CertificationKickService {
+
+    private static final int KICK_CHUNK_SIZE = 1000;
+
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // today 는 자정 기준, 검사 대상은 그 전날 하루
+    public KickReportResponseDto kick(LocalDateTime today, boolean dryRun) {
+        LocalDateTime yesterday = today.minusDays(1);
+        List<KickTargetQueryDto> targetList = challengeRecordRepository.findKickTargetList(yesterday, today);
+        if (dryRun) {
+            log.info("certificationKick dry run {} : {} targets", yesterday.toLocalDate(), targetList.size());
+            return new KickReportResponseDto(yesterday.toLocalDate(), true, 0, targetList);
+        }
+
+        int kickedCount = 0;
+        for (int from = 0; from < targetList.size(); from += KICK_CHUNK_SIZE) {
+            List<KickTargetQueryDto> chunk = targetList.subList(from, Math.min(from + KICK_CHUNK_SIZE, targetList.size()));
+            Integer updateResult = transactionTemplate.execute(status -> {
+                int result = challengeRecordRepository.kickChallengeRecords(chunk.stream()
+                        .map(KickTargetQueryDto::getChallengeRecordId)
+                        .collect(Collectors.toList()));
+                // 커밋 이후 인덱스/스냅샷의 참여 인원 갱신
+                chunk.forEach(target -> applicationEventPublisher.publishEvent(
+                        ChallengeEvent.gaveUp(target.getChallengeId(), target.getMemberId())));
+                return result;
+            });
+            kickedCount += updateResult == null ? 0 : updateResult;
+        }
+
+        log.info("certificationKick {} : {} targets, {} kicked", yesterday.toLocalDate(), targetList.size(), kickedCount);
+        return new KickReportResponseDto(yesterday.toLocalDate(), false, kickedCount, targetList);
+    }
+}
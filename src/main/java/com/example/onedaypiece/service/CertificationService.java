@@ -3,15 +3,14 @@ package com.example.onedaypiece.service;
 import com.example.onedaypiece.exception.ApiRequestException;
 import com.example.onedaypiece.web.domain.certification.Certification;
 import com.example.onedaypiece.web.domain.certification.CertificationRepository;
-import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.domain.member.MemberRepository;
 import com.example.onedaypiece.web.domain.pointHistory.PointHistory;
-import com.example.onedaypiece.web.domain.pointHistory.PointHistoryRepository;
-import com.example.onedaypiece.web.domain.posting.Posting;
 import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.query.CertificationTargetQueryDto;
 import com.example.onedaypiece.web.dto.request.certification.CertificationRequestDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,53 +22,74 @@ public class CertificationService {
     private final CertificationRepository certificationRepository;
     private final PostingRepository postingRepository;
     private final MemberRepository memberRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PostingFeedCache postingFeedCache;
+    private final CertificationInboxService certificationInboxService;
 
 
+    // 포스팅/멤버 엔티티는 올리지 않고 id 와 프록시만 쓴다. 중복 인증은 (posting_id, member_id) 유니크 제약으로 막는다
     @Transactional
-    public Boolean createCertification(CertificationRequestDto certificationRequestDto, UserDetails userDetails) {
-        Posting posting = getPosting(certificationRequestDto.getPostingId());
-        Member member = getMemberByEmail(userDetails.getUsername());
+    public Boolean createCertification(CertificationRequestDto certificationRequestDto, Long memberId) {
+        CertificationTargetQueryDto target = getCertificationTarget(certificationRequestDto.getPostingId());
 
-        Long memberCount = certificationRequestDto.getTotalNumber(); // <- 참여인원 있음
-
-        // 인증 했는지 여부 확인
-        duplicateCertification(posting,member);
-
-        Certification certification = Certification.createCertification(member,posting);
-
-        certificationRepository.save(certification);
+        Certification certification = saveCertification(memberId, target.getPostingId());
+        Long postingCount = increasePostingCount(target.getPostingId());
 
         //50% 이상
-        checkMemberCountAndAddPoint(posting, member, memberCount, certification);
+        boolean approved = checkMemberCountAndAddPoint(target, postingCount, certification);
+        postingFeedCache.evictChallenge(target.getChallengeId());
+        certificationInboxService.evict(memberId);
 
-
-        return posting.isPostingApproval();
+        return target.isPostingApproval() || approved;
     }
 
+    // 인증 저장 (IDENTITY 라 바로 insert 되고, 이미 인증했으면 유니크 제약에 걸린다)
+    private Certification saveCertification(Long memberId, Long postingId) {
+        Certification certification = Certification.createCertification(
+                memberRepository.getById(memberId), postingRepository.getById(postingId));
+        try {
+            return certificationRepository.save(certification);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateCertification(e)) {
+                throw new ApiRequestException("이미 인증한 게시물입니다!");
+            }
+            throw e;
+        }
+    }
 
-    // 인증 인원 50% 넘으면 승인
-    private void checkMemberCountAndAddPoint (Posting posting, Member member, Long memberCount, Certification certification) {
-
-        if(memberCount /2 <= posting.getPostingCount()){
-            PointHistory pointHistory = new PointHistory(1L, certification);
-            pointHistoryRepository.save(pointHistory);
-            posting.getMember().updatePoint(1L);
-            posting.updateApproval();
-            posting.updatePoint();
+    // 중복 인증 유니크 제약만 골라낸다. 탈퇴한 멤버 같은 외래 키 오류는 그대로 던진다
+    // (MySQL 은 제약 이름만, H2 는 이름 뒤에 인덱스 설명이 붙어서 온다)
+    private boolean isDuplicateCertification(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException)) {
+            return false;
         }
+        String constraintName = ((ConstraintViolationException) e.getCause()).getConstraintName();
+        return constraintName != null && constraintName.toLowerCase().contains(Certification.UK_POSTING_MEMBER);
     }
-    private void duplicateCertification(Posting posting,Member member){
-        if(certificationRepository.existsByPostingAndMember(posting,member)){
-            throw new ApiRequestException("이미 인증한 게시물입니다!");
+
+    // DB 에서 바로 +1 하고 올라간 인원을 돌려준다 (행 잠금 때문에 동시에 인증해도 누락되지 않는다)
+    private Long increasePostingCount(Long postingId) {
+        if (postingRepository.increasePostingCount(postingId) == 0) {
+            throw new ApiRequestException("등록된 포스트가 없습니다.");
         }
+        return postingRepository.findPostingCount(postingId);
     }
-    private Member getMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiRequestException("등록된 유저가 없습니다."));
+
+    // 인증 인원 50% 넘으면 승인 (참여 인원은 서버에서 센다).
+    // 승인은 조건부 업데이트라서 기준을 넘긴 인원 수를 봤다면 이번 요청이든 먼저 온 요청이든 승인된 상태다
+    private boolean checkMemberCountAndAddPoint(CertificationTargetQueryDto target, Long postingCount, Certification certification) {
+        Long approvalCount = target.getMemberCount() / 2;
+        if (approvalCount > postingCount) {
+            return false;
+        }
+        if (postingRepository.approvePosting(target.getPostingId(), approvalCount) == 1) {
+            pointLedgerService.award(new PointHistory(1L, certification, memberRepository.getById(target.getWriterId())));
+        }
+        return true;
     }
-    private Posting getPosting(Long postingId) {
-        return postingRepository.findById(postingId)
+
+    private CertificationTargetQueryDto getCertificationTarget(Long postingId) {
+        return postingRepository.findCertificationTarget(postingId)
                 .orElseThrow(() -> new ApiRequestException("등록된 포스트가 없습니다."));
     }
 }
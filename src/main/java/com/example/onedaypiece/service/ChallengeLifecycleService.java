@@ -0,0 +1,121 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.domain.pointHistory.PointHistory;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.query.ApprovedPostingCountQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.LifecycleReportResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 챌린지 시작/종료 처리.
+ * 날짜 인덱스로 오늘 시작/종료할 챌린지만 골라서, 챌린지 id 묶음 단위로 진행 상태와 포인트를 한 번에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeLifecycleService {
+
+    private static final int CHALLENGE_CHUNK_SIZE = 100;
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final PostingRepository postingRepository;
+    private final PointLedgerService pointLedgerService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // today 는 자정 기준
+    public LifecycleReportResponseDto run(LocalDateTime today) {
+        int startedCount = 0;
+        for (List<Long> chunk : chunks(challengeRepository.findChallengeIdsToStart(today.plusDays(1)))) {
+            startedCount += orZero(transactionTemplate.execute(status -> startChallenges(chunk)));
+        }
+
+        int endedCount = 0;
+        int rewardedCount = 0;
+        for (List<Long> chunk : chunks(challengeRepository.findChallengeIdsToEnd(today))) {
+            int[] result = transactionTemplate.execute(status -> endChallenges(chunk));
+            if (result != null) {
+                endedCount += result[0];
+                rewardedCount += result[1];
+            }
+        }
+
+        log.info("{} challenge lifecycle : {} started, {} ended, {} rewarded",
+                today.toLocalDate(), startedCount, endedCount, rewardedCount);
+        return new LifecycleReportResponseDto(today.toLocalDate(), startedCount, endedCount, rewardedCount);
+    }
+
+    private int startChallenges(List<Long> challengeIdList) {
+        int result = challengeRepository.updateChallengeProgress(challengeIdList, 1L, 2L);
+        challengeIdList.forEach(id -> applicationEventPublisher.publishEvent(ChallengeEvent.started(id)));
+        return result;
+    }
+
+    // {종료된 챌린지 수, 포인트 받은 참여 기록 수}
+    private int[] endChallenges(List<Long> challengeIdList) {
+        // 진행 상태를 바꾸기 전에 읽어둔다 (벌크 업데이트가 영속성 컨텍스트를 비운다)
+        List<ChallengeRecord> recordList = challengeRecordRepository.findAllByChallengeIdInWithChallenge(challengeIdList);
+        Map<Long, Map<Long, Long>> approvedCounts = new HashMap<>();
+        for (ApprovedPostingCountQueryDto row : postingRepository.countApprovedPostingList(challengeIdList)) {
+            approvedCounts.computeIfAbsent(row.getChallengeId(), id -> new HashMap<>())
+                    .put(row.getMemberId(), row.getPostingCount());
+        }
+
+        List<PointHistory> pointHistoryList = new ArrayList<>();
+        for (ChallengeRecord record : recordList) {
+            Challenge challenge = record.getChallenge();
+            long certificatedPostingCount = approvedCounts
+                    .getOrDefault(challenge.getChallengeId(), Collections.emptyMap())
+                    .getOrDefault(record.getMember().getMemberId(), 0L);
+
+            if (!record.isChallengePoint() && canGetChallengePoint(challenge, certificatedPostingCount)) { // 80% 이상 인증샷을 올렸는가?
+                final Long getPoint = certificatedPostingCount *
+                        50L * (challenge.getCategoryName().equals(CategoryName.OFFICIAL) ? 2L : 1L);
+                pointHistoryList.add(new PointHistory(getPoint, record));
+                record.updateChallengePointTrue();
+            }
+        }
+        pointLedgerService.awardAll(pointHistoryList);
+        challengeRecordRepository.flush();
+
+        int result = challengeRepository.updateChallengeProgress(challengeIdList, 2L, 3L);
+        challengeIdList.forEach(id -> applicationEventPublisher.publishEvent(ChallengeEvent.ended(id)));
+        return new int[]{result, pointHistoryList.size()};
+    }
+
+    // 인증 일수가 기간의 80% 를 넘는지 (정수 나눗셈으로 잘리지 않게 곱해서 비교, 하루짜리 챌린지는 기간 0 일)
+    private boolean canGetChallengePoint(Challenge challenge, long certificatedPostingCount) {
+        long days = ChronoUnit.DAYS.between(challenge.getChallengeStartDate(), challenge.getChallengeEndDate());
+        if (days <= 0) {
+            return certificatedPostingCount > 0;
+        }
+        return certificatedPostingCount * 100 > days * 80;
+    }
+
+    private List<List<Long>> chunks(List<Long> challengeIdList) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < challengeIdList.size(); from += CHALLENGE_CHUNK_SIZE) {
+            chunks.add(challengeIdList.subList(from, Math.min(from + CHALLENGE_CHUNK_SIZE, challengeIdList.size())));
+        }
+        return chunks;
+    }
+
+    private int orZero(Integer result) {
+        return result == null ? 0 : result;
+    }
+}
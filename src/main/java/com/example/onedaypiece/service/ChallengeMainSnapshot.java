@@ -0,0 +1,228 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.util.TimeProvider;
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordIndex;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.dto.response.challenge.ChallengeSourceResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 페이지의 카테고리, 인기 챌린지, 참여 인원을 미리 만들어두는 스냅샷.
+ * 챌린지 이벤트가 들어올 때마다 메모리 상에서 갱신하고, 요청마다 DB 전체를 읽지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeMainSnapshot {
+
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final ChallengeRepository challengeRepository;
+    private final TimeProvider timeProvider;
+
+    // challengeId -> 진행 예정 챌린지와 참여 멤버
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private volatile View view;
+
+    public View getView() {
+        View current = view;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (view == null) {
+                rebuild();
+            }
+            return view;
+        }
+    }
+
+    // 이벤트 유실에 대비해서 주기적으로 DB 기준으로 다시 만든다
+    @Scheduled(cron = "30 */10 * * * *")
+    public synchronized void rebuild() {
+        entries.clear();
+        for (ChallengeRecord record : challengeRecordRepository.findAllByStatusTrueOrderByModifiedAtDesc()) {
+            entries.computeIfAbsent(record.getChallenge().getChallengeId(), id -> new Entry(record.getChallenge()))
+                    .join(record.getMember().getMemberId(), record.getModifiedAt());
+        }
+        publish();
+        log.info("main page snapshot rebuilt : {} challenges", entries.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onChallengeEvent(ChallengeEvent event) {
+        if (view == null) {
+            return; // 아직 만들어지지 않았으면 첫 조회 때 DB 기준으로 만든다
+        }
+        Long challengeId = event.getChallengeId();
+        switch (event.getType()) {
+            case CREATED:
+            case JOINED:
+                loadEntry(challengeId).ifPresent(joined -> joined.join(event.getMemberId(), timeProvider.now()));
+                break;
+            case UPDATED:
+                if (entries.containsKey(challengeId)) {
+                    challengeRepository.findById(challengeId).ifPresent(entries.get(challengeId)::setChallenge);
+                }
+                break;
+            case GAVE_UP:
+                Entry entry = entries.get(challengeId);
+                if (entry != null && entry.leave(event.getMemberId())) {
+                    entries.remove(challengeId);
+                }
+                break;
+            case DELETED:
+            case STARTED:
+                entries.remove(challengeId);
+                break;
+            default:
+                return;
+        }
+        publish();
+    }
+
+    private Optional<Entry> loadEntry(Long challengeId) {
+        Entry entry = entries.get(challengeId);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        return challengeRepository.findById(challengeId)
+                .filter(c -> c.isChallengeStatus() && c.getChallengeProgress() == 1L)
+                .map(c -> {
+                    Entry created = new Entry(c);
+                    entries.put(challengeId, created);
+                    return created;
+                });
+    }
+
+    private void publish() {
+        List<Entry> recent = entries.values()
+                .stream()
+                .sorted(Comparator.comparing(Entry::lastActivity).reversed())
+                .collect(Collectors.toList());
+
+        Map<CategoryName, List<Challenge>> categories = new EnumMap<>(CategoryName.class);
+        for (Entry entry : recent) {
+            List<Challenge> list = categories.computeIfAbsent(entry.challenge.getCategoryName(), c -> new ArrayList<>());
+            if (list.size() < View.CATEGORY_SIZE) {
+                list.add(entry.challenge);
+            }
+        }
+
+        // 정렬이 안정적이라 참여 인원이 같으면 최근 활동 순서가 유지된다
+        List<Challenge> popular = recent.stream()
+                .sorted(Comparator.comparingInt(Entry::memberCount).reversed())
+                .map(entry -> entry.challenge)
+                .collect(Collectors.toList());
+
+        Map<Long, Challenge> challenges = new HashMap<>();
+        ChallengeRecordIndex recordIndex = new ChallengeRecordIndex();
+        entries.forEach((id, entry) -> {
+            challenges.put(id, entry.challenge);
+            entry.memberActivity.keySet().forEach(memberId -> recordIndex.add(id, memberId));
+        });
+
+        view = new View(categories, popular, challenges, recordIndex);
+    }
+
+    private static class Entry {
+        private Challenge challenge;
+        private final Map<Long, LocalDateTime> memberActivity = new HashMap<>();
+
+        private Entry(Challenge challenge) {
+            this.challenge = challenge;
+        }
+
+        private void setChallenge(Challenge challenge) {
+            this.challenge = challenge;
+        }
+
+        private void join(Long memberId, LocalDateTime at) {
+            LocalDateTime activity = at == null ? LocalDateTime.MIN : at;
+            memberActivity.merge(memberId, activity, (before, after) -> before.isAfter(after) ? before : after);
+        }
+
+        // 남은 멤버가 없으면 true
+        private boolean leave(Long memberId) {
+            memberActivity.remove(memberId);
+            return memberActivity.isEmpty();
+        }
+
+        private int memberCount() {
+            return memberActivity.size();
+        }
+
+        private LocalDateTime lastActivity() {
+            return memberActivity.isEmpty() ? LocalDateTime.MIN : Collections.max(memberActivity.values());
+        }
+    }
+
+    /**
+     * 한 시점의 메인 페이지 구성. 만들어진 뒤에는 바뀌지 않으므로 여러 요청이 같이 읽어도 된다.
+     */
+    public static class View {
+        private static final int CATEGORY_SIZE = 3;
+
+        private final Map<CategoryName, List<Challenge>> categories;
+        private final List<Challenge> popular;
+        private final Map<Long, Challenge> challenges;
+        private final ChallengeRecordIndex recordIndex;
+
+        private View(Map<CategoryName, List<Challenge>> categories,
+                     List<Challenge> popular,
+                     Map<Long, Challenge> challenges,
+                     ChallengeRecordIndex recordIndex) {
+            this.categories = categories;
+            this.popular = popular;
+            this.challenges = challenges;
+            this.recordIndex = recordIndex;
+        }
+
+        public List<ChallengeSourceResponseDto> category(CategoryName categoryName) {
+            return categories.getOrDefault(categoryName, Collections.emptyList())
+                    .stream()
+                    .map(this::source)
+                    .collect(Collectors.toList());
+        }
+
+        // 유저가 참여한 챌린지는 본인을 뺀 인원으로 순위를 매긴다 (본인은 최대 1명이라 앞쪽 후보만 보면 된다)
+        public List<ChallengeSourceResponseDto> popular(Set<Long> userChallengeIds, int size) {
+            return popular.stream()
+                    .limit(size + userChallengeIds.size())
+                    .filter(c -> memberCountExcept(c, userChallengeIds) > 0)
+                    .sorted(Comparator.comparingInt((Challenge c) -> memberCountExcept(c, userChallengeIds)).reversed())
+                    .limit(size)
+                    .map(this::source)
+                    .collect(Collectors.toList());
+        }
+
+        public List<ChallengeSourceResponseDto> slider(List<Long> challengeIds) {
+            return challengeIds.stream()
+                    .filter(challenges::containsKey)
+                    .map(challenges::get)
+                    .map(this::source)
+                    .collect(Collectors.toList());
+        }
+
+        private int memberCountExcept(Challenge challenge, Set<Long> userChallengeIds) {
+            int count = recordIndex.countOf(challenge.getChallengeId());
+            return userChallengeIds.contains(challenge.getChallengeId()) ? count - 1 : count;
+        }
+
+        private ChallengeSourceResponseDto source(Challenge challenge) {
+            return new ChallengeSourceResponseDto(challenge, recordIndex);
+        }
+    }
+}
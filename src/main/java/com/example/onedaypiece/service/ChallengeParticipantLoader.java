@@ -0,0 +1,32 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 한 페이지 분량 챌린지들의 참여 멤버 id 를 쿼리 한 번으로 가져온다.
+ * 챌린지마다 참여 기록을 따로 조회하던 1 + N 쿼리를 없애기 위한 용도.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChallengeParticipantLoader {
+
+    private final ChallengeRecordRepository challengeRecordRepository;
+
+    // challengeId -> 참여 멤버 id 목록 (참여자가 없는 챌린지도 빈 목록으로 들어있다)
+    public Map<Long, List<Long>> load(List<Long> challengeIdList) {
+        Map<Long, List<Long>> participants = new HashMap<>();
+        if (challengeIdList.isEmpty()) {
+            return participants;
+        }
+        challengeIdList.forEach(id -> participants.put(id, new ArrayList<>()));
+        for (ChallengeMemberQueryDto row : challengeRecordRepository.findChallengeMemberList(challengeIdList)) {
+            participants.get(row.getChallengeId()).add(row.getMemberId());
+        }
+        return participants;
+    }
+}
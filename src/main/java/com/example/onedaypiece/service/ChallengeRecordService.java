@@ -2,6 +2,7 @@ package com.example.onedaypiece.service;
 
 import com.example.onedaypiece.exception.ApiRequestException;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
 import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
@@ -9,6 +10,7 @@ import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.domain.member.MemberRepository;
 import com.example.onedaypiece.web.dto.request.challengeRecord.ChallengeRecordRequestDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,23 +21,24 @@ public class ChallengeRecordService {
     private final ChallengeRecordRepository challengeRecordRepository;
     private final ChallengeRepository challengeRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
-    public void requestChallenge(ChallengeRecordRequestDto requestDto, String email) {
+    public void requestChallenge(ChallengeRecordRequestDto requestDto, Long memberId) {
         Challenge challenge = ChallengeChecker(requestDto.getChallengeId());
-        Member member = MemberChecker(email);
+        Member member = memberRepository.getById(memberId);
         requestChallengeException(challenge, member);
         challengeRecordRepository.save(new ChallengeRecord(challenge, member));
+        applicationEventPublisher.publishEvent(ChallengeEvent.joined(challenge.getChallengeId(), memberId));
     }
 
     @Transactional
-    public void giveUpChallenge(Long challengeId, String email) {
+    public void giveUpChallenge(Long challengeId, Long memberId) {
         Challenge challenge = ChallengeChecker(challengeId);
-        Member member = MemberChecker(email);
-
-
+        Member member = memberRepository.getById(memberId);
 
         challengeRecordRepository.deleteByChallengeAndMember(challenge, member);
+        applicationEventPublisher.publishEvent(ChallengeEvent.gaveUp(challengeId, memberId));
     }
 
     private Challenge ChallengeChecker(Long challengeId) {
@@ -43,11 +46,6 @@ public class ChallengeRecordService {
                     .orElseThrow(() -> new ApiRequestException("존재하지 않은 챌린지입니다."));
     }
 
-    private Member MemberChecker(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiRequestException("존재하지 않는 유저입니다."));
-    }
-
     private void requestChallengeException(Challenge challenge, Member member) {
         if (challengeRecordRepository.existsByChallengeAndMember(challenge, member)) {
             throw new ApiRequestException("이미 해당 챌린지에 신청한 유저입니다.");
@@ -0,0 +1,193 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 예정 챌린지의 제목/내용 역색인.
+ * 한글은 띄어쓰기만으로 검색어가 안 잘리기 때문에 단어를 1글자, 2글자(n-gram) 단위로 쪼개서 색인한다.
+ * 검색어의 n-gram 이 모두 들어있는 챌린지만 결과에 포함하고, 제목에서 맞은 n-gram 에 가중치를 더 준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final ChallengeRepository challengeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> titlePostings = new HashMap<>();
+    private final Map<String, Set<Long>> contentPostings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Challenge> challengeList = challengeRepository.findAllByChallengeStatusTrueAndChallengeProgressLessThan(2L);
+        lock.writeLock().lock();
+        try {
+            titlePostings.clear();
+            contentPostings.clear();
+            documents.clear();
+            challengeList.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("challenge search index rebuilt : {} challenges", challengeList.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeEvent(ChallengeEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                Optional<Challenge> challenge = challengeRepository.findById(event.getChallengeId())
+                        .filter(c -> c.isChallengeStatus() && c.getChallengeProgress() == 1L);
+                lock.writeLock().lock();
+                try {
+                    remove(event.getChallengeId());
+                    challenge.ifPresent(this::put);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                break;
+            case DELETED:
+            case STARTED:
+                lock.writeLock().lock();
+                try {
+                    remove(event.getChallengeId());
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // 점수 높은 순, 같으면 최근 수정 순으로 한 페이지 분량의 challengeId 를 돌려준다
+    public List<Long> search(String words, int page, int size) {
+        Set<String> queryGrams = tokenize(words);
+        if (queryGrams.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String gram : queryGrams) {
+                Map<Long, Integer> gramScores = new HashMap<>();
+                titlePostings.getOrDefault(gram, Collections.emptySet())
+                        .forEach(id -> gramScores.merge(id, TITLE_WEIGHT, Integer::sum));
+                contentPostings.getOrDefault(gram, Collections.emptySet())
+                        .forEach(id -> gramScores.merge(id, CONTENT_WEIGHT, Integer::sum));
+
+                if (scores == null) {
+                    scores = gramScores;
+                } else {
+                    // 모든 n-gram 이 들어있는 챌린지만 남긴다
+                    scores.keySet().retainAll(gramScores.keySet());
+                    for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + gramScores.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            Comparator<Long> byScore = Comparator.comparing(scores::get);
+            Comparator<Long> byModifiedAt = Comparator.comparing(id -> documents.get(id).modifiedAt);
+            return scores.keySet()
+                    .stream()
+                    .sorted(byScore.reversed()
+                            .thenComparing(byModifiedAt.reversed())
+                            .thenComparing(Comparator.<Long>reverseOrder()))
+                    .skip((long) page * size)
+                    .limit(size)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void put(Challenge challenge) {
+        Long challengeId = challenge.getChallengeId();
+        Document document = new Document(
+                tokenize(challenge.getChallengeTitle()),
+                tokenize(challenge.getChallengeContent()),
+                Optional.ofNullable(challenge.getModifiedAt()).orElse(LocalDateTime.MIN));
+        document.titleGrams.forEach(gram -> titlePostings.computeIfAbsent(gram, g -> new HashSet<>()).add(challengeId));
+        document.contentGrams.forEach(gram -> contentPostings.computeIfAbsent(gram, g -> new HashSet<>()).add(challengeId));
+        documents.put(challengeId, document);
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void remove(Long challengeId) {
+        Document document = documents.remove(challengeId);
+        if (document == null) {
+            return;
+        }
+        removePostings(titlePostings, document.titleGrams, challengeId);
+        removePostings(contentPostings, document.contentGrams, challengeId);
+    }
+
+    private void removePostings(Map<String, Set<Long>> postings, Set<String> grams, Long challengeId) {
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(challengeId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 단어마다 1글자, 연속된 2글자 단위로 자른다 ("아침 운동" -> 아, 침, 아침, 운, 동, 운동)
+    static Set<String> tokenize(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 2 <= word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static class Document {
+        private final Set<String> titleGrams;
+        private final Set<String> contentGrams;
+        private final LocalDateTime modifiedAt;
+
+        private Document(Set<String> titleGrams, Set<String> contentGrams, LocalDateTime modifiedAt) {
+            this.titleGrams = titleGrams;
+            this.contentGrams = contentGrams;
+            this.modifiedAt = modifiedAt;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.example.onedaypiece.service;
 import com.example.onedaypiece.web.domain.challenge.CategoryName;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
-import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
 import com.example.onedaypiece.web.dto.response.challenge.ChallengeListResponseDto;
 import com.example.onedaypiece.web.dto.response.challenge.ChallengeResponseDto;
 import com.example.onedaypiece.web.dto.response.search.ChallengeTitleSearchResponseDto;
@@ -11,8 +10,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,9 +21,12 @@ import java.util.stream.Collectors;
 public class ChallengeSearchService {
 
     private final ChallengeRepository challengeRepository;
-    private final ChallengeRecordRepository challengeRecordRepository;
+    private final ChallengeParticipantLoader challengeParticipantLoader;
+    private final ChallengeSearchIndex challengeSearchIndex;
+    private final ChallengeTitleTrie challengeTitleTrie;
 
     final static int pageSize = 8;
+    final static int autocompleteSize = 10;
 
     public ChallengeListResponseDto getChallengeByCategoryName(CategoryName categoryName, int page) {
         List<Challenge> challengeList = challengeRepository.
@@ -31,19 +35,30 @@ public class ChallengeSearchService {
     }
 
     public ChallengeListResponseDto getChallengeSearchResult(String searchWords, int page) {
-        List<Challenge> challengeList = challengeRepository.
-                findAllByWordsAndChallengeStatusTrueOrderByModifiedAtDesc(
-                        searchWords.trim(), PageRequest.of(page - 1, pageSize));
+        List<Long> challengeIdList = challengeSearchIndex.search(searchWords.trim(), page - 1, pageSize);
+        if (challengeIdList.isEmpty()) {
+            return new ChallengeListResponseDto();
+        }
+
+        // 색인이 정한 순서대로 다시 정렬
+        Map<Long, Challenge> challengeMap = challengeRepository.findAllByIdInWithMember(challengeIdList)
+                .stream()
+                .collect(Collectors.toMap(Challenge::getChallengeId, Function.identity()));
+        List<Challenge> challengeList = challengeIdList.stream()
+                .map(challengeMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
         return listResponseDtoSource(challengeList);
     }
 
     private ChallengeListResponseDto listResponseDtoSource(List<Challenge> challengeList) {
+        Map<Long, List<Long>> participants = challengeParticipantLoader.load(challengeList.stream()
+                .map(Challenge::getChallengeId)
+                .collect(Collectors.toList()));
+
         ChallengeListResponseDto listResponseDto = new ChallengeListResponseDto();
         for (Challenge challenge : challengeList) {
-            List<Long> memberIdList = new ArrayList<>();
-            challengeRecordRepository.findAllByChallengeId(challenge.getChallengeId()).forEach(
-                    record -> memberIdList.add(record.getMember().getMemberId()));
-            listResponseDto.addResult(new ChallengeResponseDto(challenge, memberIdList));
+            listResponseDto.addResult(new ChallengeResponseDto(challenge, participants.get(challenge.getChallengeId())));
         }
         return listResponseDto;
     }
@@ -54,4 +69,8 @@ public class ChallengeSearchService {
                 .map(ChallengeTitleSearchResponseDto::new)
                 .collect(Collectors.toList());
     }
+
+    public List<ChallengeTitleSearchResponseDto> getChallengeTitleAutocomplete(Long progress, String prefix) {
+        return challengeTitleTrie.search(prefix, progress, autocompleteSize);
+    }
 }
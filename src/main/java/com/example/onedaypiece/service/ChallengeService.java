@@ -3,10 +3,12 @@ package com.example.onedaypiece.service;
 import com.example.onedaypiece.chat.model.ChatRoom;
 import com.example.onedaypiece.chat.repository.ChatRoomRepository;
 import com.example.onedaypiece.exception.ApiRequestException;
-import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.util.TimeProvider;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
 import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordIndex;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.domain.member.MemberRepository;
@@ -14,16 +16,14 @@ import com.example.onedaypiece.web.dto.request.challenge.ChallengeRequestDto;
 import com.example.onedaypiece.web.dto.request.challenge.PutChallengeRequestDto;
 import com.example.onedaypiece.web.dto.response.challenge.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.Resource;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -37,14 +37,16 @@ public class ChallengeService {
     private final ChallengeRecordRepository challengeRecordRepository;
     private final MemberRepository memberRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChallengeMainSnapshot challengeMainSnapshot;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TimeProvider timeProvider;
+    private final ImageIngestService imageIngestService;
 
     // 채팅룸 저장
     @Resource(name = "redisTemplate")
     private HashOperations<String, String, ChatRoom> hashOpsChatRoom;
     private static final String CHAT_ROOMS = "CHAT_ROOM";
 
-    private final LocalDateTime currentLocalDateTime = LocalDateTime.now();
-
     public ChallengeResponseDto getChallengeDetail(Long challengeId) {
         Challenge challenge = ChallengeChecker(challengeId);
         List<Long> memberList = challengeRecordRepository.findAllByChallengeId(challengeId)
@@ -55,116 +57,77 @@ public class ChallengeService {
     }
 
     @Transactional
-    public void deleteChallenge(Long challengeId, String username) {
+    public void deleteChallenge(Long challengeId, Long memberId) {
         Challenge challenge = ChallengeChecker(challengeId);
-        deleteChallengeException(username, challenge);
+        deleteChallengeException(memberId, challenge);
         challengeRecordRepository.deleteAllByChallenge(challenge);
+        applicationEventPublisher.publishEvent(ChallengeEvent.deleted(challengeId));
     }
 
     @Transactional
-    public Long createChallenge(ChallengeRequestDto requestDto, String email) {
-        Member member = memberChecker(email);
+    public Long createChallenge(ChallengeRequestDto requestDto, Long memberId) {
+        Member member = memberRepository.getById(memberId);
         createChallengeException(requestDto, member);
         Challenge challenge = new Challenge(requestDto, member);
+        challenge.updateChallengeImgUrl(imageIngestService.ingest(requestDto.getChallengeImgUrl()));
         ChallengeRecord challengeRecord = new ChallengeRecord(challenge, member);
         challengeRecordRepository.save(challengeRecord);
         ChatRoom chatRoom = new ChatRoom(challenge);
         chatRoomRepository.save(chatRoom);
         hashOpsChatRoom.put(CHAT_ROOMS, chatRoom.getRoomId(),chatRoom);
-        return challengeRepository.save(challenge).getChallengeId();
+        Long challengeId = challengeRepository.save(challenge).getChallengeId();
+        applicationEventPublisher.publishEvent(ChallengeEvent.created(challengeId, memberId));
+        return challengeId;
     }
 
     @Transactional
-    public void putChallenge(PutChallengeRequestDto requestDto, String email) {
-        Member member = memberChecker(email);
+    public void putChallenge(PutChallengeRequestDto requestDto, Long memberId) {
         Challenge challenge = ChallengeChecker(requestDto.getChallengeId());
-        putChallengeException(member, challenge);
+        putChallengeException(memberId, challenge);
+        String previousImgUrl = challenge.getChallengeImgUrl();
         challenge.putChallenge(requestDto);
+        challenge.updateChallengeImgUrl(imageIngestService.replace(previousImgUrl, requestDto.getChallengeImgUrl()));
+        applicationEventPublisher.publishEvent(ChallengeEvent.updated(challenge.getChallengeId()));
     }
 
     public Page<ChallengeSourceResponseDto> getAllChallenge(int page) {
-        List<ChallengeRecord> records = challengeRecordRepository.findAllByChallengeStatusTrueAndProgressNotStart();
-        List<Challenge> challenges = records.stream().map(ChallengeRecord::getChallenge).collect(Collectors.toList());
-        List<Long> challengeIdList = new ArrayList<>();
-        List<ChallengeSourceResponseDto> sources = challenges
-                .stream()
-                .filter(c -> !challengeIdList.contains(c.getChallengeId()))
-                .peek(c -> challengeIdList.add(c.getChallengeId()))
-                .map(c -> new ChallengeSourceResponseDto(c, records))
-                .collect(Collectors.toList());
-        return listToPage(page, sources);
+        final int allChallengePageSize = 8;
+        Page<Challenge> challengePage = challengeRepository.findAllNotStarted(PageRequest.of(page - 1, allChallengePageSize));
+        List<Long> challengeIdList = challengePage.map(Challenge::getChallengeId).getContent();
+
+        // 참여 멤버는 현재 페이지의 챌린지 것만 한 번에 조회
+        ChallengeRecordIndex recordIndex = challengeIdList.isEmpty() ? new ChallengeRecordIndex() :
+                ChallengeRecordIndex.fromQuery(challengeRecordRepository.findChallengeMemberList(challengeIdList));
+        return challengePage.map(c -> new ChallengeSourceResponseDto(c, recordIndex));
     }
 
     public ChallengeMainResponseDto getMainPage(String email) {
+        final int popularSize = 4;
         ChallengeMainResponseDto responseDto = new ChallengeMainResponseDto();
-        List<ChallengeRecord> records = challengeRecordRepository.findAllByStatusTrueOrderByModifiedAtDesc();
+        ChallengeMainSnapshot.View view = challengeMainSnapshot.getView();
 
-        userSliderUpdate(responseDto, email, records);
-        popularUpdate(responseDto, email, records);
+        // 유저마다 달라지는 슬라이더만 요청 때 조회
+        List<Long> userChallengeIdList = email.isEmpty() ? Collections.emptyList() :
+                challengeRecordRepository.findNotStartedChallengeIdsByEmail(email);
 
-        categoryCollector(EXERCISE, records).forEach(responseDto::addExercise);
-        categoryCollector(LIVINGHABITS, records).forEach(responseDto::addLivingHabits);
-        categoryCollector(NODRINKNOSMOKE, records).forEach(responseDto::addNoDrinkNoSmoke);
+        responseDto.addSlider(view.slider(userChallengeIdList));
+        responseDto.addPopular(view.popular(new HashSet<>(userChallengeIdList), popularSize));
+
+        view.category(EXERCISE).forEach(responseDto::addExercise);
+        view.category(LIVINGHABITS).forEach(responseDto::addLivingHabits);
+        view.category(NODRINKNOSMOKE).forEach(responseDto::addNoDrinkNoSmoke);
 
 //        responseDto.setHistoryCount(userHistoryRepository.countAllByStatusFalseAndMemberEmail(email));
         return responseDto;
     }
 
-    private void userSliderUpdate(ChallengeMainResponseDto responseDto, String email, List<ChallengeRecord> records) {
-        List<Challenge> userChallengeList = records
-                .stream()
-                .filter(r -> r.getMember().getEmail().equals(email))
-                .map(ChallengeRecord::getChallenge)
-                .collect(Collectors.toList());
-        List<ChallengeSourceResponseDto> sliderSourceList = userChallengeList
-                .stream()
-                .map(challenge -> new ChallengeSourceResponseDto(challenge, records))
-                .collect(Collectors.toList());
-        responseDto.addSlider(sliderSourceList);
-    }
-
-    private void popularUpdate(ChallengeMainResponseDto responseDto, String email, List<ChallengeRecord> records) {
-        final int popularSize = 4;
-        List<ChallengeRecord> popularRecords = challengeRecordRepository.findPopularOrderByDesc(email, PageRequest.of(0, popularSize));
-        responseDto.addPopular(popularRecords, records);
-    }
-
-    private List<ChallengeSourceResponseDto> categoryCollector(CategoryName category, List<ChallengeRecord> records) {
-        final int categorySize = 3;
-
-        Set<Long> recordIdList = new HashSet<>();
-        List<ChallengeRecord> recordList = new ArrayList<>();
-
-        records.stream().filter(r -> !recordIdList.contains(r.getChallenge().getChallengeId()) &&
-                r.getChallenge().getCategoryName().equals(category) &&
-                recordIdList.size() < categorySize).forEach(r -> {
-            recordIdList.add(r.getChallenge().getChallengeId());
-            recordList.add(r);
-        });
-
-        List<Challenge> list = recordList.stream().map(ChallengeRecord::getChallenge).collect(Collectors.toList());
-        return list
-                .stream()
-                .map(c -> new ChallengeSourceResponseDto(c, records))
-                .collect(Collectors.toList());
-    }
-
-    private Page<ChallengeSourceResponseDto> listToPage(int page, List<ChallengeSourceResponseDto> sources) {
-        final int allChallengePageSize = 8;
-        Pageable paging = PageRequest.of(page - 1, allChallengePageSize);
-        final int start = Math.min((int)paging.getOffset(), sources.size());
-        final int end = Math.min((start + paging.getPageSize()), sources.size());
-
-        return new PageImpl<>(sources.subList(start, end), paging, sources.size());
-    }
-
     private Challenge ChallengeChecker(Long challengeId) {
         return challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new ApiRequestException("존재하지 않는 챌린지입니다"));
     }
 
-    private void putChallengeException(Member member, Challenge challenge) {
-        if (!challenge.getMember().equals(member)) {
+    private void putChallengeException(Long memberId, Challenge challenge) {
+        if (!challenge.getMember().getMemberId().equals(memberId)) {
             throw new ApiRequestException("다른 유저가 만든 챌린지입니다.");
         }
         if (!challenge.getChallengeProgress().equals(1L)) {
@@ -175,16 +138,11 @@ public class ChallengeService {
         }
     }
 
-    private Member memberChecker(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiRequestException("존재하지 않는 유저입니다."));
-    }
-
-    private void deleteChallengeException(String username, Challenge challenge) {
-        if (!challenge.getMember().getEmail().equals(username)) {
+    private void deleteChallengeException(Long memberId, Challenge challenge) {
+        if (!challenge.getMember().getMemberId().equals(memberId)) {
             throw new IllegalArgumentException("작성자가 아닙니다.");
         }
-        if (currentLocalDateTime.isBefore(challenge.getChallengeStartDate())) {
+        if (timeProvider.now().isBefore(challenge.getChallengeStartDate())) {
             challenge.setChallengeStatus(false);
             challenge.updateChallengeProgress(3L);
         } else {
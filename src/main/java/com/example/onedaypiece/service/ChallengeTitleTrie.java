@@ -0,0 +1,250 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeEvent;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.dto.query.ChallengeMemberCountQueryDto;
+import com.example.onedaypiece.web.dto.response.search.ChallengeTitleSearchResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 검색창 자동완성용 챌린지 제목 트라이.
+ * 제목 맨 앞뿐 아니라 띄어쓰기 뒤 단어 시작 위치도 키로 넣어서 "운동" 으로 "아침 운동" 을 찾을 수 있다.
+ * 노드마다 그 아래에 있는 challengeId 를 들고 있어서, 접두어 노드만 찾으면 후보를 바로 꺼낼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeTitleTrie {
+
+    // 트라이 깊이 제한 (이보다 긴 검색어는 잘라서 찾은 뒤 제목으로 한 번 더 거른다)
+    private static final int MAX_KEY_LENGTH = 20;
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeRecordRepository challengeRecordRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Challenge> challengeList = challengeRepository.findAllByChallengeStatusTrueAndChallengeProgressLessThan(3L);
+        Map<Long, Long> memberCounts = challengeRecordRepository.findChallengeMemberCountList()
+                .stream()
+                .collect(Collectors.toMap(ChallengeMemberCountQueryDto::getChallengeId, ChallengeMemberCountQueryDto::getMemberCount));
+
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.challengeIds.clear();
+            entries.clear();
+            challengeList.forEach(c -> put(c, memberCounts.getOrDefault(c.getChallengeId(), 0L).intValue()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("challenge title trie rebuilt : {} challenges", challengeList.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeEvent(ChallengeEvent event) {
+        Long challengeId = event.getChallengeId();
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                Optional<Challenge> challenge = challengeRepository.findById(challengeId)
+                        .filter(c -> c.isChallengeStatus() && c.getChallengeProgress() < 3L);
+                int memberCount = challenge.map(challengeRecordRepository::countByChallenge).orElse(0);
+                lock.writeLock().lock();
+                try {
+                    remove(challengeId);
+                    challenge.ifPresent(c -> put(c, memberCount));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                break;
+            case JOINED:
+            case GAVE_UP:
+                lock.writeLock().lock();
+                try {
+                    Entry entry = entries.get(challengeId);
+                    if (entry != null) {
+                        entry.memberCount += event.getType() == ChallengeEvent.EventType.JOINED ? 1 : -1;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                break;
+            case STARTED:
+                lock.writeLock().lock();
+                try {
+                    Entry entry = entries.get(challengeId);
+                    if (entry != null) {
+                        entry.progress = 2L;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                break;
+            case DELETED:
+            case ENDED:
+                lock.writeLock().lock();
+                try {
+                    remove(challengeId);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // 참여 인원 많은 순, 같으면 최근 수정 순으로 최대 size 개
+    public List<ChallengeTitleSearchResponseDto> search(String prefix, Long progress, int size) {
+        String query = normalize(prefix);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String key = query.length() > MAX_KEY_LENGTH ? query.substring(0, MAX_KEY_LENGTH) : query;
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            // 상위 size 개만 남기는 힙 (가장 순위가 낮은 게 맨 앞)
+            PriorityQueue<Entry> topK = new PriorityQueue<>(Entry.RANK);
+            for (Long challengeId : node.challengeIds) {
+                Entry entry = entries.get(challengeId);
+                if (entry.progress > progress || (query.length() > MAX_KEY_LENGTH && !entry.matches(query))) {
+                    continue;
+                }
+                topK.offer(entry);
+                if (topK.size() > size) {
+                    topK.poll();
+                }
+            }
+
+            List<Entry> result = new ArrayList<>(topK);
+            result.sort(Entry.RANK.reversed());
+            return result.stream()
+                    .map(entry -> new ChallengeTitleSearchResponseDto(entry.title, entry.categoryName))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void put(Challenge challenge, int memberCount) {
+        Entry entry = new Entry(challenge, memberCount);
+        for (String key : entry.keys()) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.challengeIds.add(entry.challengeId);
+            }
+        }
+        entries.put(entry.challengeId, entry);
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void remove(Long challengeId) {
+        Entry entry = entries.remove(challengeId);
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.keys()) {
+            removeKey(root, key, 0, challengeId);
+        }
+    }
+
+    private void removeKey(Node parent, String key, int depth, Long challengeId) {
+        if (depth == key.length()) {
+            return;
+        }
+        Node node = parent.children.get(key.charAt(depth));
+        if (node == null) {
+            return;
+        }
+        removeKey(node, key, depth + 1, challengeId);
+        node.challengeIds.remove(challengeId);
+        if (node.challengeIds.isEmpty()) {
+            parent.children.remove(key.charAt(depth));
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Long> challengeIds = new HashSet<>();
+    }
+
+    private static class Entry {
+        private static final Comparator<Entry> RANK = Comparator.comparingInt((Entry e) -> e.memberCount)
+                .thenComparing(e -> e.modifiedAt)
+                .thenComparing(e -> e.challengeId);
+
+        private final Long challengeId;
+        private final String title;
+        private final String normalizedTitle;
+        private final CategoryName categoryName;
+        private final LocalDateTime modifiedAt;
+        private Long progress;
+        private int memberCount;
+
+        private Entry(Challenge challenge, int memberCount) {
+            this.challengeId = challenge.getChallengeId();
+            this.title = challenge.getChallengeTitle();
+            this.normalizedTitle = normalize(challenge.getChallengeTitle());
+            this.categoryName = challenge.getCategoryName();
+            this.modifiedAt = Optional.ofNullable(challenge.getModifiedAt()).orElse(LocalDateTime.MIN);
+            this.progress = challenge.getChallengeProgress();
+            this.memberCount = memberCount;
+        }
+
+        // 제목 맨 앞과 단어 시작 위치부터의 문자열 (최대 MAX_KEY_LENGTH 글자)
+        private Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            for (int i = 0; i < normalizedTitle.length(); i++) {
+                if (i == 0 || normalizedTitle.charAt(i - 1) == ' ') {
+                    keys.add(normalizedTitle.substring(i, Math.min(normalizedTitle.length(), i + MAX_KEY_LENGTH)));
+                }
+            }
+            return keys;
+        }
+
+        private boolean matches(String query) {
+            return normalizedTitle.startsWith(query) || normalizedTitle.contains(" " + query);
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.example.onedaypiece.service;
 
-import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.security.MemberPrincipal;
 import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,25 +17,43 @@ import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final MemberIdentityService memberIdentityService;
 
+    // 기본 정보는 캐시에서, 비밀번호 해시는 DB 에서 바로 읽는다
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return memberRepository.findByEmail(email)
-                .map(this::createUserDetails)
+        MemberIdentityQueryDto member = memberIdentityService.findIdentity(email)
+                .orElseThrow(() -> new UsernameNotFoundException(email + " -> 데이터베이스에서 찾을 수 없습니다."));
+        String password = memberRepository.findPasswordByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException(email + " -> 데이터베이스에서 찾을 수 없습니다."));
+        return createUserDetails(member, password);
+    }
+
+    // 저장된 해시의 cost 가 설정보다 낮을 때 새로 해시한 값 저장 (로그인 후 MemberService 가 풀에서 돌려서 부른다)
+    // user 의 비밀번호는 예전 해시여야 하고, 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.updatePasswordByEmail(user.getUsername(), user.getPassword(), newPassword);
+        if (user instanceof MemberPrincipal) {
+            MemberPrincipal principal = (MemberPrincipal) user;
+            return new MemberPrincipal(principal.getMemberId(), principal.getUsername(), newPassword,
+                    principal.getAuthorities());
+        }
+        return loadUserByUsername(user.getUsername());
     }
 
     // DB 에 User 값이 존재한다면 UserDetails 객체로 만들어서 리턴
-    private UserDetails createUserDetails(Member member) {
+    private UserDetails createUserDetails(MemberIdentityQueryDto member, String password) {
         GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(member.getRole().toString());
 
-        return new User(
+        return new MemberPrincipal(
+                member.getMemberId(),
                 String.valueOf(member.getEmail()),
-                member.getPassword(),
+                password,
                 Collections.singleton(grantedAuthority)
         );
 
@@ -0,0 +1,129 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.util.AfterCommit;
+import com.example.onedaypiece.util.TimeProvider;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "오늘 이 챌린지에 글을 썼는가" 검사용 메모리 집합.
+ * 오늘 글을 쓴 (멤버, 챌린지) 키만 들고 있어서, 집합에 없으면 쿼리 없이 통과시킨다.
+ * 집합에 있으면 (member_id, challenge_id, createdAt) 인덱스로 DB 에서 한 번 더 확인한다.
+ * 키를 잡은 트랜잭션이 아직 커밋 전이면 DB 에서 그 글이 안 보이므로, 그 동안 들어온 요청은 바로 거절한다.
+ * 날짜가 바뀌면 처음 불릴 때 비우고 그 날 글로 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyPostingGuard {
+
+    private final PostingRepository postingRepository;
+    private final TimeProvider timeProvider;
+
+    private volatile DailyKeys dailyKeys;
+
+    // 오늘 처음 쓰는 글이면 키를 잡아두고 true. 커밋되면 확정하고, 롤백되면 잡아둔 키를 다시 푼다
+    public boolean tryAcquire(Long memberId, Long challengeId) {
+        DailyKeys keys = currentKeys();
+        String key = key(memberId, challengeId);
+        KeyState state = keys.keys.putIfAbsent(key, KeyState.PENDING);
+        if (state == null) {
+            completeOnCommit(keys, key);
+            return true;
+        }
+        // 먼저 온 요청이 아직 커밋 전 (연속 클릭 등)
+        if (state == KeyState.PENDING) {
+            return false;
+        }
+        // 키가 있어도 그 사이 글이 지워졌을 수 있으니 DB 로 확인. 동시에 여러 요청이 와도 하나만 다시 잡는다
+        if (postingRepository.existsTodayPosting(keys.day.atStartOfDay(), memberId, challengeId)
+                || !keys.keys.replace(key, KeyState.COMMITTED, KeyState.PENDING)) {
+            return false;
+        }
+        completeOnCommit(keys, key);
+        return true;
+    }
+
+    // 오늘 쓴 글이 지워지면 커밋 후 키를 푼다 (다시 쓸 수 있게)
+    public void release(Long memberId, Long challengeId, LocalDateTime createdAt) {
+        DailyKeys keys = currentKeys();
+        if (createdAt.toLocalDate().equals(keys.day)) {
+            String key = key(memberId, challengeId);
+            AfterCommit.run(() -> keys.keys.remove(key));
+        }
+    }
+
+    public int size() {
+        DailyKeys keys = dailyKeys;
+        return keys == null ? 0 : keys.keys.size();
+    }
+
+    private DailyKeys currentKeys() {
+        LocalDate today = timeProvider.today().toLocalDate();
+        DailyKeys keys = dailyKeys;
+        if (keys != null && keys.day.equals(today)) {
+            return keys;
+        }
+        synchronized (this) {
+            if (dailyKeys == null || !dailyKeys.day.equals(today)) {
+                dailyKeys = load(today);
+            }
+            return dailyKeys;
+        }
+    }
+
+    // 서버가 하루 중간에 뜨거나 날짜가 바뀐 직후, 그 날 이미 쓴 글로 채운다
+    private DailyKeys load(LocalDate day) {
+        DailyKeys keys = new DailyKeys(day);
+        for (ChallengeMemberQueryDto row : postingRepository.findTodayPostingKeyList(day.atStartOfDay())) {
+            keys.keys.put(key(row.getMemberId(), row.getChallengeId()), KeyState.COMMITTED);
+        }
+        log.info("dailyPostingGuard {} : {} keys loaded", day, keys.keys.size());
+        return keys;
+    }
+
+    private void completeOnCommit(DailyKeys keys, String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            keys.keys.put(key, KeyState.COMMITTED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    keys.keys.replace(key, KeyState.PENDING, KeyState.COMMITTED);
+                } else {
+                    keys.keys.remove(key, KeyState.PENDING);
+                }
+            }
+        });
+    }
+
+    private String key(Long memberId, Long challengeId) {
+        return memberId + ":" + challengeId;
+    }
+
+    // PENDING: 키를 잡은 트랜잭션이 아직 안 끝남, COMMITTED: 글이 커밋됨
+    private enum KeyState {
+        PENDING, COMMITTED
+    }
+
+    private static class DailyKeys {
+        private final LocalDate day;
+        private final Map<String, KeyState> keys = new ConcurrentHashMap<>();
+
+        private DailyKeys(LocalDate day) {
+            this.day = day;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.exception.ApiRequestException;
+import com.example.onedaypiece.util.AfterCommit;
+import com.example.onedaypiece.util.BlobStore;
+import com.example.onedaypiece.util.ImageUrl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 클라이언트가 data URL(data:image/png;base64,...) 로 보낸 이미지를 저장소에 넣고 짧은 키로 바꿔준다.
+ * 원본은 키를 DB 에 넣기 전에 요청 스레드에서 바로 저장하고, 실패하면 예외를 던져 트랜잭션을 되돌린다.
+ * 트랜잭션이 롤백되면 저장한 원본을 지우고, 썸네일은 커밋된 뒤에 작업 스레드에서 만든다.
+ * 썸네일이 만들어지기 전 조회는 원본으로 응답한다.
+ * 작은 파일이 큰 해상도를 선언하는 경우(압축 폭탄)를 막으려고 요청 스레드에서 헤더의 가로/세로만 먼저 확인한다.
+ */
+@Slf4j
+@Service
+public class ImageIngestService {
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final int MAX_IMAGE_BYTES = 5 * 1024 * 1024;
+    // 약 4000 만 화소 (휴대폰 사진은 넉넉히 들어간다)
+    private static final long MAX_IMAGE_PIXELS = 40_000_000L;
+    private static final int THUMBNAIL_WIDTH = 320;
+    private static final int WORKER_COUNT = 2;
+    private static final int QUEUE_CAPACITY = 100;
+
+    private static final Map<String, String> EXTENSIONS = new HashMap<>();
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        EXTENSIONS.put("image/png", "png");
+        EXTENSIONS.put("image/jpeg", "jpg");
+        EXTENSIONS.put("image/jpg", "jpg");
+        EXTENSIONS.put("image/gif", "gif");
+        EXTENSIONS.put("image/webp", "webp");
+        CONTENT_TYPES.put("png", "image/png");
+        CONTENT_TYPES.put("jpg", "image/jpeg");
+        CONTENT_TYPES.put("gif", "image/gif");
+        CONTENT_TYPES.put("webp", "image/webp");
+    }
+
+    private final BlobStore blobStore;
+    // 큐가 차면 요청 스레드에서 직접 만든다 (업로드가 몰려도 메모리가 끝없이 늘지 않게)
+    private final ExecutorService executor = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-ingest");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public ImageIngestService(BlobStore blobStore) {
+        this.blobStore = blobStore;
+    }
+
+    // data URL 이면 저장하고 키를 돌려준다. 이 서버의 이미지 주소면 키로, 그 밖의 URL(예전 데이터, 외부 주소)은 그대로 돌려준다
+    public String ingest(String image) {
+        if (image == null || !image.startsWith(DATA_URL_PREFIX)) {
+            return ImageUrl.toKey(image);
+        }
+        int comma = image.indexOf(',');
+        if (comma < 0) {
+            throw new ApiRequestException("잘못된 이미지 형식입니다.");
+        }
+        String meta = image.substring(DATA_URL_PREFIX.length(), comma);
+        if (!meta.endsWith(";base64")) {
+            throw new ApiRequestException("잘못된 이미지 형식입니다.");
+        }
+        String extension = EXTENSIONS.get(meta.substring(0, meta.length() - ";base64".length()).toLowerCase());
+        if (extension == null) {
+            throw new ApiRequestException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(image.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ApiRequestException("잘못된 이미지 형식입니다.");
+        }
+        if (bytes.length > MAX_IMAGE_BYTES) {
+            throw new ApiRequestException("이미지는 5MB 까지 올릴 수 있습니다.");
+        }
+        checkPixels(bytes);
+
+        String key = UUID.randomUUID().toString().replace("-", "") + "." + extension;
+        try {
+            blobStore.put(key, bytes);
+        } catch (RuntimeException e) {
+            log.error("image store failed : {}", key, e);
+            throw new IllegalStateException("이미지 저장에 실패했습니다.", e);
+        }
+        afterTransaction(key, bytes);
+        return key;
+    }
+
+    // 이미지를 바꿀 때. 예전 키가 더 이상 안 쓰이면 커밋 후 원본과 썸네일을 지운다
+    public String replace(String previous, String image) {
+        String key = ingest(image);
+        if (ImageUrl.isKey(previous) && !previous.equals(key)) {
+            AfterCommit.run(() -> {
+                delete(previous);
+                delete(ImageUrl.thumbnailKey(previous));
+            });
+        }
+        return key;
+    }
+
+    public Optional<byte[]> getImage(String key) {
+        if (!ImageUrl.isKey(key)) {
+            return Optional.empty();
+        }
+        return blobStore.get(key);
+    }
+
+    // 썸네일이 아직 없거나 만들 수 없는 형식이면 원본으로
+    public Optional<byte[]> getThumbnail(String key) {
+        if (!ImageUrl.isKey(key)) {
+            return Optional.empty();
+        }
+        Optional<byte[]> thumbnail = blobStore.get(ImageUrl.thumbnailKey(key));
+        return thumbnail.isPresent() ? thumbnail : getImage(key);
+    }
+
+    // 썸네일은 원본 형식과 상관없이 jpg 라서 앞 두 바이트로 먼저 본다
+    public String getContentType(String key, byte[] bytes) {
+        if (bytes.length > 1 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8) {
+            return "image/jpeg";
+        }
+        return CONTENT_TYPES.getOrDefault(key.substring(key.lastIndexOf('.') + 1), "application/octet-stream");
+    }
+
+    // 커밋되면 썸네일을 만들고, 롤백되면 키가 DB 에 남지 않으니 원본을 지운다
+    private void afterTransaction(String key, byte[] bytes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> storeThumbnail(key, bytes));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    executor.execute(() -> storeThumbnail(key, bytes));
+                } else {
+                    delete(key);
+                }
+            }
+        });
+    }
+
+    // 썸네일이 없으면 원본으로 응답하므로 실패해도 로그만 남긴다
+    private void storeThumbnail(String key, byte[] bytes) {
+        try {
+            byte[] thumbnail = createThumbnail(bytes);
+            if (thumbnail != null) {
+                blobStore.put(ImageUrl.thumbnailKey(key), thumbnail);
+            }
+        } catch (Exception e) {
+            log.error("image thumbnail failed : {}", key, e);
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            blobStore.delete(key);
+        } catch (Exception e) {
+            log.error("image delete failed : {}", key, e);
+        }
+    }
+
+    // 픽셀은 디코딩하지 않고 헤더의 가로/세로만 본다. ImageIO 가 못 읽는 형식(webp 등)은 서버에서 디코딩하지 않으니 넘긴다
+    private void checkPixels(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            ImageReader reader = openReader(input);
+            if (reader == null) {
+                return;
+            }
+            try {
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_IMAGE_PIXELS) {
+                    throw new ApiRequestException("이미지 해상도가 너무 큽니다.");
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new ApiRequestException("잘못된 이미지 형식입니다.");
+        }
+    }
+
+    // ImageIO 가 못 읽는 형식(webp 등)이면 null
+    private byte[] createThumbnail(byte[] bytes) throws IOException {
+        BufferedImage source;
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            ImageReader reader = openReader(input);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                // 원본 전체를 올리지 않고 썸네일 폭의 두 배 정도가 되게 건너뛰며 읽는다
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, reader.getWidth(0) / (THUMBNAIL_WIDTH * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+        int width = Math.min(THUMBNAIL_WIDTH, source.getWidth());
+        int height = Math.max(1, (int) ((long) source.getHeight() * width / source.getWidth()));
+
+        // 투명 배경은 흰색으로 채워서 jpg 로 저장
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private ImageReader openReader(ImageInputStream input) {
+        if (input == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(input, true, true);
+        return reader;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.util.LruTtlCache;
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+// 서버 한 대일 때 쓰는 메모리 캐시 (서버가 여러 대면 다른 서버의 무효화를 못 받으니 redis 로 바꾼다)
+@Component
+@ConditionalOnProperty(name = "member.identity.cache", havingValue = "local", matchIfMissing = true)
+public class LocalMemberIdentityCache implements MemberIdentityCache {
+
+    private static final int MAX_SIZE = 10000;
+
+    private final LruTtlCache<String, MemberIdentityQueryDto> cache;
+
+    public LocalMemberIdentityCache(Clock clock,
+                                    @Value("${member.identity.cache-seconds:600}") long cacheSeconds) {
+        this.cache = new LruTtlCache<>(MAX_SIZE, Duration.ofSeconds(cacheSeconds), clock);
+    }
+
+    @Override
+    public MemberIdentityQueryDto get(String email, Function<String, MemberIdentityQueryDto> loader) {
+        return cache.get(email, loader);
+    }
+
+    @Override
+    public void evict(String email) {
+        cache.evict(email);
+    }
+
+    @Override
+    public CacheStatsResponseDto getStats() {
+        return new CacheStatsResponseDto("memberIdentity", cache);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.exception.ApiRequestException;
+import com.example.onedaypiece.security.MemberPrincipal;
+import com.example.onedaypiece.web.domain.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 정보에서 멤버 id 꺼내기.
+ * 토큰에 id 클레임이 있으면 쿼리 없이 바로 쓰고, 클레임이 없는 예전 토큰만 email 로 id 를 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberIdResolver {
+
+    private final MemberRepository memberRepository;
+
+    public Long getMemberId(UserDetails userDetails) {
+        if (userDetails instanceof MemberPrincipal) {
+            return ((MemberPrincipal) userDetails).getMemberId();
+        }
+        return memberRepository.findMemberIdByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new ApiRequestException("등록된 유저가 없습니다."));
+    }
+}
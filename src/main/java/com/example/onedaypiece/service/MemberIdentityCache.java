@@ -0,0 +1,20 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+
+import java.util.function.Function;
+
+/**
+ * email -> 멤버 기본 정보 캐시.
+ * member.identity.cache=local(기본) 이면 서버 메모리, redis 면 여러 서버가 Redis 를 같이 쓴다.
+ */
+public interface MemberIdentityCache {
+
+    // 없으면 loader 로 읽어서 넣는다 (loader 가 null 이면 넣지 않고 null)
+    MemberIdentityQueryDto get(String email, Function<String, MemberIdentityQueryDto> loader);
+
+    void evict(String email);
+
+    CacheStatsResponseDto getStats();
+}
@@ -0,0 +1,36 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.util.AfterCommit;
+import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 멤버 기본 정보(id, 닉네임, 프로필 이미지, 권한) 조회.
+ * 로그인과 채팅은 닉네임 하나 보려고 매번 멤버 엔티티를 읽었는데, 이제 캐시에서 꺼내고
+ * 프로필이 바뀌면 MemberService 가 evict 로 지운다. 비밀번호 해시는 캐시하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberIdentityService {
+
+    private final MemberRepository memberRepository;
+    private final MemberIdentityCache memberIdentityCache;
+
+    public Optional<MemberIdentityQueryDto> findIdentity(String email) {
+        return Optional.ofNullable(memberIdentityCache.get(email,
+                key -> memberRepository.findIdentityByEmail(key).orElse(null)));
+    }
+
+    public void evict(String email) {
+        AfterCommit.evict(() -> memberIdentityCache.evict(email));
+    }
+
+    public CacheStatsResponseDto getStats() {
+        return memberIdentityCache.getStats();
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.onedaypiece.service;
 
 import com.example.onedaypiece.exception.ApiRequestException;
+import com.example.onedaypiece.security.BoundedPasswordEncoder;
+import com.example.onedaypiece.security.MemberPrincipal;
 import com.example.onedaypiece.security.TokenProvider;
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
@@ -10,8 +13,7 @@ import com.example.onedaypiece.web.domain.member.MemberRepository;
 import com.example.onedaypiece.web.domain.point.Point;
 import com.example.onedaypiece.web.domain.point.PointRepository;
 import com.example.onedaypiece.web.domain.pointHistory.PointHistoryRepository;
-import com.example.onedaypiece.web.domain.token.RefreshToken;
-import com.example.onedaypiece.web.domain.token.RefreshTokenRepository;
+import com.example.onedaypiece.web.domain.token.RefreshTokenStore;
 import com.example.onedaypiece.web.dto.request.login.LoginRequestDto;
 import com.example.onedaypiece.web.dto.request.mypage.ProfileUpdateRequestDto;
 import com.example.onedaypiece.web.dto.request.mypage.PwUpdateRequestDto;
@@ -36,10 +38,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -53,10 +57,13 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final PointRepository pointRepository;
     private final ChallengeRecordRepository challengeRecordRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final ImageIngestService imageIngestService;
+    private final MemberIdentityService memberIdentityService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     // 회원가입
     @Transactional
@@ -80,6 +87,7 @@ public class MemberService {
         // 패스워드 인코딩
         String password= passwordEncoder.encode(requestDto.getPassword());
         requestDto.setPassword(password);
+        requestDto.setProfileImg(imageIngestService.ingest(requestDto.getProfileImg()));
 
         Point point = new Point();
 //        point = pointRepository.save(point);
@@ -101,14 +109,10 @@ public class MemberService {
         TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
 
         // 4. RefreshToken 저장
-        RefreshToken refreshToken = RefreshToken.builder()
-                .key(authentication.getName())
-                .value(tokenDto.getRefreshToken())
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(authentication.getName(), tokenDto.getRefreshToken());
 
         Member member = getMemberByEmail(requestDto.getEmail());
+        upgradePassword(member, requestDto.getPassword());
 
         // 자기가 참여한 챌린지에서 현재 진행중인리스트
         List<ChallengeRecord> targetList = challengeRecordRepository.findAllByMemberAndProgressAndExpected(member,2L, 1L);
@@ -116,6 +120,17 @@ public class MemberService {
         return new MemberTokenResponseDto(tokenDto, member, targetList.size());
     }
 
+    // 예전 cost 로 저장된 비밀번호는 해시 풀에 자리가 있을 때만 뒤에서 다시 해시한다 (로그인 결과에는 영향 없음)
+    private void upgradePassword(Member member, String rawPassword) {
+        if (!(passwordEncoder instanceof BoundedPasswordEncoder)) {
+            return;
+        }
+        MemberPrincipal user = new MemberPrincipal(member.getMemberId(), member.getEmail(), member.getPassword(),
+                Collections.singleton(new SimpleGrantedAuthority(member.getRole().name())));
+        ((BoundedPasswordEncoder) passwordEncoder).upgradeLater(rawPassword, member.getPassword(),
+                encoded -> customUserDetailsService.updatePassword(user, encoded));
+    }
+
     // 새로고침
     @Transactional(readOnly = true)
     public ReloadResponseDto reload(String email){
@@ -141,22 +156,18 @@ public class MemberService {
 
         Member member = getMemberByEmail(authentication.getName());
 
-        // 3. 저장소에서 Member ID 를 기반으로 Refresh Token 값 가져옴
-        RefreshToken refreshToken = refreshTokenRepository.findByKey(authentication.getName())
-                .orElseThrow(() -> new ApiRequestException("로그아웃 된 사용자입니다."));
+        // 3. 새로운 토큰 생성
+        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
 
-        // 4. Refresh Token 일치하는지 검사
-        if (!refreshToken.getValue().equals(tokenRequestDto.getRefreshToken())) {
+        // 4. 저장된 Refresh Token 이 보낸 값과 같을 때만 새 값으로 교체 (비교와 교체를 한 번에)
+        if (!refreshTokenStore.rotate(authentication.getName(),
+                tokenRequestDto.getRefreshToken(), tokenDto.getRefreshToken())) {
+            if (!refreshTokenStore.find(authentication.getName()).isPresent()) {
+                throw new ApiRequestException("로그아웃 된 사용자입니다.");
+            }
             throw new ApiRequestException("리프레시 토큰의 유저 정보가 일치하지 않습니다.");
         }
 
-        // 5. 새로운 토큰 생성
-        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
-
-        // 6. 저장소 정보 업데이트
-        RefreshToken newRefreshToken = refreshToken.updateValue(tokenDto.getRefreshToken());
-        refreshTokenRepository.save(newRefreshToken);
-
         // 자기가 참여한 챌린지에서 현재 진행중인리스트
         List<ChallengeRecord> targetList = challengeRecordRepository.findAllByMemberAndProgressAndExpected(member,2L, 1L);
 
@@ -190,7 +201,11 @@ public class MemberService {
             existNickname(requestDto.getNickname());
         }
 
-        return member.updateProfile(requestDto);
+        String previousImg = member.getProfileImg();
+        member.updateProfile(requestDto);
+        member.updateProfileImg(imageIngestService.replace(previousImg, requestDto.getProfileImage()));
+        memberIdentityService.evict(email);
+        return ImageUrl.of(member.getProfileImg());
     }
 
     // 진행중인
@@ -0,0 +1,71 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.domain.point.PointRepository;
+import com.example.onedaypiece.web.domain.pointHistory.PointHistory;
+import com.example.onedaypiece.web.domain.pointHistory.PointHistoryRepository;
+import com.example.onedaypiece.web.dto.query.PointBalanceQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.PointReconcileResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 포인트 지급은 모두 여기를 거친다.
+ * PointHistory 를 원장으로 쌓고, 잔액(Point.acquiredPoint)은 DB 에서 바로 더해서 동시에 지급돼도 누락이 없게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final PointRepository pointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 호출한 쪽 트랜잭션에 같이 묶인다
+    @Transactional
+    public void award(PointHistory pointHistory) {
+        pointHistoryRepository.save(pointHistory);
+        pointRepository.increaseAcquiredPoint(pointHistory.getMember().getMemberId(), pointHistory.getGetPoint());
+    }
+
+    // 같은 포인트를 받는 멤버끼리 묶어서 잔액 업데이트를 포인트 종류 수만큼만 보낸다
+    @Transactional
+    public void awardAll(List<PointHistory> pointHistoryList) {
+        if (pointHistoryList.isEmpty()) {
+            return;
+        }
+        pointHistoryRepository.saveAll(pointHistoryList);
+
+        Map<Long, List<Long>> memberIdsByAmount = new HashMap<>();
+        for (PointHistory pointHistory : pointHistoryList) {
+            memberIdsByAmount.computeIfAbsent(pointHistory.getGetPoint(), amount -> new ArrayList<>())
+                    .add(pointHistory.getMember().getMemberId());
+        }
+        memberIdsByAmount.forEach((amount, memberIdList) -> {
+            // 한 멤버가 같은 포인트를 여러 번 받으면 in 조건으로는 한 번만 더해지므로 따로 보낸다
+            Set<Long> distinct = new HashSet<>();
+            List<Long> duplicated = new ArrayList<>();
+            memberIdList.forEach(memberId -> {
+                if (!distinct.add(memberId)) {
+                    duplicated.add(memberId);
+                }
+            });
+            pointRepository.increaseAcquiredPointAll(new ArrayList<>(distinct), amount);
+            duplicated.forEach(memberId -> pointRepository.increaseAcquiredPoint(memberId, amount));
+        });
+    }
+
+    // 잔액과 원장 합계가 다른 멤버를 찾는다 (조회만 하고 고치지는 않는다)
+    @Transactional(readOnly = true)
+    public PointReconcileResponseDto reconcile() {
+        List<PointBalanceQueryDto> unbalancedList = pointHistoryRepository.findUnbalancedPointList();
+
+        unbalancedList.forEach(row -> log.warn("point unbalanced : member {} acquired {} ledger {}",
+                row.getMemberId(), row.getAcquiredPoint(), row.getLedgerPoint()));
+        log.info("point reconcile : {} unbalanced members", unbalancedList.size());
+        return new PointReconcileResponseDto(unbalancedList);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.util.AfterCommit;
+import com.example.onedaypiece.util.LruTtlCache;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import com.example.onedaypiece.web.dto.response.posting.PostingListDto;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 챌린지별 포스팅 피드 앞쪽 페이지 캐시.
+ * 피드는 참여자들이 하루에도 여러 번 보지만 글은 하루 한 번씩만 올라오므로, 앞 페이지만 잡아두고
+ * 글 작성/수정/삭제/인증이 커밋되면 해당 챌린지 항목을 지운다.
+ */
+@Component
+public class PostingFeedCache {
+
+    static final int CACHED_PAGES = 3;
+    private static final int MAX_SIZE = 2000;
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String CURSOR_FIRST_PAGE = "cursor";
+
+    private final LruTtlCache<String, PostingListDto> cache;
+
+    public PostingFeedCache(Clock clock) {
+        this.cache = new LruTtlCache<>(MAX_SIZE, TTL, clock);
+    }
+
+    // 페이지 번호 방식 (앞쪽 CACHED_PAGES 페이지만 캐시)
+    public PostingListDto getPage(Long challengeId, int page, Supplier<PostingListDto> loader) {
+        if (page < 1 || page > CACHED_PAGES) {
+            return loader.get();
+        }
+        return cache.get(key(challengeId, String.valueOf(page)), k -> loader.get());
+    }
+
+    // 커서 방식 첫 페이지
+    public PostingListDto getFirstCursorPage(Long challengeId, Supplier<PostingListDto> loader) {
+        return cache.get(key(challengeId, CURSOR_FIRST_PAGE), k -> loader.get());
+    }
+
+    public void evictChallenge(Long challengeId) {
+        String prefix = challengeId + ":";
+        AfterCommit.evict(() -> cache.evictIf(key -> key.startsWith(prefix)));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public CacheStatsResponseDto getStats() {
+        return new CacheStatsResponseDto("postingFeed", cache);
+    }
+
+    private String key(Long challengeId, String page) {
+        return challengeId + ":" + page;
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.onedaypiece.service;
 
 import com.example.onedaypiece.exception.ApiRequestException;
-import com.example.onedaypiece.web.domain.certification.Certification;
+import com.example.onedaypiece.util.TimeProvider;
 import com.example.onedaypiece.web.domain.certification.CertificationRepository;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.domain.member.MemberRepository;
 import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.domain.posting.PostingCursor;
 import com.example.onedaypiece.web.domain.posting.PostingQueryRepository;
 import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.query.CertificationMemberQueryDto;
+import com.example.onedaypiece.web.dto.query.PostingFeedQueryDto;
 import com.example.onedaypiece.web.dto.request.posting.PostingCreateRequestDto;
 import com.example.onedaypiece.web.dto.request.posting.PostingUpdateRequestDto;
 import com.example.onedaypiece.web.dto.response.posting.PostingListDto;
@@ -21,9 +24,12 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -37,22 +43,31 @@ public class PostingService {
     private final CertificationRepository certificationRepository;
 
     private final PostingQueryRepository postingQueryRepository;
+    private final TimeProvider timeProvider;
+    private final PostingFeedCache postingFeedCache;
+    private final DailyPostingGuard dailyPostingGuard;
+    private final ImageIngestService imageIngestService;
+
+    private static final int POSTING_PAGE_SIZE = 6;
 
     /**
      * 1.포스트 저장
      *
      */
-    public Long createPosting(PostingCreateRequestDto postingCreateRequestDto, String email) {
-        Member member = getMemberByEmail(email);
+    public Long createPosting(PostingCreateRequestDto postingCreateRequestDto, Long memberId) {
+        Member member = memberRepository.getById(memberId);
         Challenge challenge = getChallenge(postingCreateRequestDto.getChallengeId());
         Posting posting = Posting.createPosting(postingCreateRequestDto,member,challenge);
 
 
         // 포스팅 검사
         validatePosting(challenge);
-        duplicatePosting(member,challenge);
+        duplicatePosting(memberId,challenge);
 
+        // 검사를 통과한 뒤에 이미지 저장
+        posting.updatePostingImg(imageIngestService.ingest(postingCreateRequestDto.getPostingImg()));
         postingRepository.save(posting);
+        postingFeedCache.evictChallenge(challenge.getChallengeId());
 
         return posting.getPostingId();
     }
@@ -66,35 +81,62 @@ public class PostingService {
      */
     @Transactional(readOnly = true)
     public PostingListDto getPosting(int page, Long challengeId) {
+        return postingFeedCache.getPage(challengeId, page, () -> loadPosting(page, challengeId));
+    }
 
-        Pageable pageable = PageRequest.of(page-1,6);
+    private PostingListDto loadPosting(int page, Long challengeId) {
+        Pageable pageable = PageRequest.of(page-1,POSTING_PAGE_SIZE);
 
-        Slice<Posting> postingList =postingRepository.findPostingList(challengeId,pageable);
+        Slice<PostingFeedQueryDto> postingList =postingRepository.findPostingFeedList(challengeId,pageable);
         // QueryRepository 적용
 //        List<Posting> postingList =postingQueryRepository.findPostingList(challengeId,pageable);
-        List<Certification> certificationList = certificationRepository.findAllByPosting(challengeId);
+        return PostingListDto.createPostingListDto(postingList,getCertificationMap(postingList.getContent()));
+    }
 
+    /**
+     * 2-1.포스트 리스트 (커서 기반 무한 스크롤)
+     *
+     */
+    @Transactional(readOnly = true)
+    public PostingListDto getPostingByCursor(Long challengeId, String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return postingFeedCache.getFirstCursorPage(challengeId, () -> loadPostingByCursor(challengeId, null));
+        }
+        return loadPostingByCursor(challengeId, cursor);
+    }
 
+    private PostingListDto loadPostingByCursor(Long challengeId, String cursor) {
+        PostingCursor postingCursor = PostingCursor.decode(cursor);
+
+        // 한 개 더 가져와서 다음 페이지가 있는지 확인
+        List<PostingFeedQueryDto> postingList = postingRepository.findPostingFeedListByCursor(challengeId,
+                postingCursor.getCreatedAt(), postingCursor.getPostingId(), PageRequest.of(0, POSTING_PAGE_SIZE + 1));
+        boolean hasNext = postingList.size() > POSTING_PAGE_SIZE;
+        if (hasNext) {
+            postingList = postingList.subList(0, POSTING_PAGE_SIZE);
+        }
 
-        return PostingListDto.createPostingListDto(postingList,certificationList);
+        return PostingListDto.createPostingListDto(postingList,hasNext,getCertificationMap(postingList));
     }
 
     /**
      * 3.포스트 업데이트
      *
      */
-    public Long updatePosting(Long postingId, String email, PostingUpdateRequestDto postingUpdateRequestDto) {
+    public Long updatePosting(Long postingId, Long memberId, PostingUpdateRequestDto postingUpdateRequestDto) {
 
-        Member member = getMemberByEmail(email);
         Posting posting = getPosting(postingId);
 
         // 작성자 검사
-        validateMember(member,posting.getMember().getMemberId());
+        validateMember(memberId,posting.getMember().getMemberId());
 
         // 포스팅 검사
         validateUpdatePosting(posting);
 
+        String previousImg = posting.getPostingImg();
         posting.updatePosting(postingUpdateRequestDto);
+        posting.updatePostingImg(imageIngestService.replace(previousImg, postingUpdateRequestDto.getPostingImg()));
+        postingFeedCache.evictChallenge(posting.getChallenge().getChallengeId());
         return posting.getPostingId();
     }
 
@@ -104,21 +146,37 @@ public class PostingService {
      * 4.포스트 삭제
      *
      */
-    public Long deletePosting(Long postingId, String email) {
-        Member member = getMemberByEmail(email);
+    public Long deletePosting(Long postingId, Long memberId) {
         Posting posting =getPosting(postingId);
 
         // 작성자 검사
-        validateMember(member,posting.getMember().getMemberId());
+        validateMember(memberId,posting.getMember().getMemberId());
 
         // 인증 검사.
         isApprovalIsTrue(posting);
 
         posting.deletePosting();
+        postingFeedCache.evictChallenge(posting.getChallenge().getChallengeId());
+        dailyPostingGuard.release(memberId, posting.getChallenge().getChallengeId(), posting.getCreatedAt());
         return posting.getPostingId();
 
     }
 
+    // 이번 페이지 포스팅들의 인증 멤버만 한 번에 가져온다 (postingId -> 인증한 멤버 id 목록)
+    private Map<Long, List<Long>> getCertificationMap(List<PostingFeedQueryDto> postingList) {
+        Map<Long, List<Long>> certificationMap = new HashMap<>();
+        if (postingList.isEmpty()) {
+            return certificationMap;
+        }
+        List<Long> postingIdList = postingList.stream()
+                .map(PostingFeedQueryDto::getPostingId)
+                .collect(Collectors.toList());
+        for (CertificationMemberQueryDto row : certificationRepository.findCertificationMemberList(postingIdList)) {
+            certificationMap.computeIfAbsent(row.getPostingId(), id -> new ArrayList<>()).add(row.getMemberId());
+        }
+        return certificationMap;
+    }
+
     private Posting getPosting(Long postingId) {
         return postingRepository.findById(postingId)
                 .orElseThrow(() -> new ApiRequestException("등록된 포스트가 없습니다."));
@@ -130,43 +188,32 @@ public class PostingService {
                 .orElseThrow(() -> new ApiRequestException("등록된 챌린지가 없습니다."));
     }
 
-    private Member getMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiRequestException("등록된 멤버가 없습니다."));
-    }
-
     private void isApprovalIsTrue(Posting posting) {
         if(posting.isPostingApproval()){
             throw new ApiRequestException("이미 인증된 게시글은 삭제할 수 없습니다.");
         }
     }
 
-    private void validateMember(Member member, Long memberId) {
-        if (!memberId.equals(member.getMemberId())) {
+    private void validateMember(Long loginMemberId, Long memberId) {
+        if (!memberId.equals(loginMemberId)) {
             throw new ApiRequestException("해당 게시물에 대한 수정 권한이 없습니다.");
         }
     }
 
     private void validatePosting(Challenge challenge){
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = timeProvider.now();
         if(challenge.getChallengeStartDate().isAfter(now)){
             throw new ApiRequestException("챌린지 시작 후에 게시글 등록 가능합니다.");
         }
     }
 
-    private void duplicatePosting(Member member, Challenge challenge) {
-
-        LocalDateTime now = LocalDate.now().atStartOfDay();
-
-        Posting posting = postingRepository.existsTodayPosting(now,member,challenge);
-
-        if(posting != null){
+    private void duplicatePosting(Long memberId, Challenge challenge) {
+        if(!dailyPostingGuard.tryAcquire(memberId, challenge.getChallengeId())){
             throw new ApiRequestException("동일한 챌린지에는 한번의 인증글만 작성할 수 있습니다.");
         }
-
     }
     private void validateUpdatePosting(Posting posting) {
-        LocalDateTime now = LocalDate.now().atStartOfDay();
+        LocalDateTime now = timeProvider.today();
 
         if(posting.getCreatedAt().isBefore(now)){
             throw new ApiRequestException("작성 후 하루가 지나면 수정 할 수 없습니다.");
@@ -0,0 +1,74 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 서버가 여러 대일 때 쓰는 Redis 캐시. 값은 JSON 문자열로 넣고 만료 시간을 같이 건다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.identity.cache", havingValue = "redis")
+public class RedisMemberIdentityCache implements MemberIdentityCache {
+
+    private static final String KEY_PREFIX = "MEMBER_IDENTITY:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public RedisMemberIdentityCache(StringRedisTemplate stringRedisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${member.identity.cache-seconds:600}") long cacheSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(cacheSeconds);
+    }
+
+    @Override
+    public MemberIdentityQueryDto get(String email, Function<String, MemberIdentityQueryDto> loader) {
+        String cached = stringRedisTemplate.opsForValue().get(KEY_PREFIX + email);
+        if (cached != null) {
+            try {
+                MemberIdentityQueryDto identity = objectMapper.readValue(cached, MemberIdentityQueryDto.class);
+                hitCount.incrementAndGet();
+                return identity;
+            } catch (JsonProcessingException e) {
+                log.warn("member identity cache : 읽을 수 없는 값이라 다시 읽습니다. {}", email);
+            }
+        }
+        missCount.incrementAndGet();
+
+        MemberIdentityQueryDto identity = loader.apply(email);
+        if (identity != null) {
+            try {
+                stringRedisTemplate.opsForValue().set(KEY_PREFIX + email, objectMapper.writeValueAsString(identity), ttl);
+            } catch (JsonProcessingException e) {
+                log.warn("member identity cache : 값을 넣지 못했습니다. {}", email);
+            }
+        }
+        return identity;
+    }
+
+    @Override
+    public void evict(String email) {
+        stringRedisTemplate.delete(KEY_PREFIX + email);
+    }
+
+    @Override
+    public CacheStatsResponseDto getStats() {
+        return new CacheStatsResponseDto("memberIdentity(redis)", -1, hitCount.get(), missCount.get(), 0);
+    }
+}
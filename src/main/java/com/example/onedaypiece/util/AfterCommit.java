@@ -0,0 +1,36 @@
+package com.example.onedaypiece.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 커밋된 뒤에 할 일 (캐시 지우기, 파일 정리 등).
+ * 트랜잭션 밖에서 부르면 바로 실행한다.
+ */
+public class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 캐시는 지금 한 번 지우고 커밋 뒤에 한 번 더 지운다.
+    // 커밋 전에 지우기만 하면 그 사이 다른 요청이 커밋 전 값(예전 값)을 다시 채울 수 있다
+    public static void evict(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(evict);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.onedaypiece.util;
+
+import java.util.Optional;
+
+/**
+ * 이미지 같은 바이너리 저장소. 키는 저장하는 쪽(ImageIngestService)에서 정한다.
+ * 로컬에서는 FileSystemBlobStore 를 쓰고, 다른 저장소(S3 등)는 이 인터페이스만 구현해서 빈으로 올리면 된다.
+ */
+public interface BlobStore {
+
+    void put(String key, byte[] data);
+
+    Optional<byte[]> get(String key);
+
+    void delete(String key);
+}
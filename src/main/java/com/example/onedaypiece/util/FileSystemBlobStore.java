@@ -0,0 +1,79 @@
+package com.example.onedaypiece.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 로컬 디렉터리에 키 이름 그대로 파일로 저장한다.
+ * 임시 파일에 다 쓴 뒤 옮겨서, 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.store", havingValue = "file", matchIfMissing = true)
+public class FileSystemBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public FileSystemBlobStore(@Value("${image.store.root:images}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("image blob store : {}", this.root);
+    }
+
+    @Override
+    public void put(String key, byte[] data) {
+        Path target = resolve(key);
+        try {
+            Path temp = Files.createTempFile(root, "upload", ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        Path target = resolve(key);
+        if (!Files.exists(target)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 키에 경로가 섞여 들어와도 root 밖으로 나가지 못하게 한다
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.getParent().equals(root)) {
+            throw new IllegalArgumentException("invalid blob key : " + key);
+        }
+        return target;
+    }
+}
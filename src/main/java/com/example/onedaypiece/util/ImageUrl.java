@@ -0,0 +1,67 @@
+package com.example.onedaypiece.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * DB 에는 이미지 키만 저장하고, 응답에는 /api/images/{key} 주소로 내려준다.
+ * 예전 데이터처럼 URL 이 그대로 저장된 값은 건드리지 않는다.
+ * 앞에 붙는 주소는 설정값(image.base-url)만 쓰고 요청의 Host 헤더로 만들지 않는다 (피드 캐시에 그대로 들어가므로).
+ */
+public class ImageUrl {
+
+    public static final String PATH = "/api/images/";
+    private static final String THUMBNAIL_SUFFIX = "/thumbnail";
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[0-9a-f]{32}\\.(png|jpg|gif|webp)$");
+
+    private static volatile String prefix = PATH;
+
+    private ImageUrl() {
+    }
+
+    public static String of(String image) {
+        return isKey(image) ? prefix() + image : image;
+    }
+
+    // 목록/프로필처럼 작게 보이는 곳은 썸네일 주소
+    public static String thumbnailOf(String image) {
+        return isKey(image) ? prefix() + image + THUMBNAIL_SUFFIX : image;
+    }
+
+    // 이 서버가 내려준 주소(경로만, base-url 이 붙은 주소, 썸네일 주소)를 클라이언트가 그대로 돌려보내면 다시 키로 바꾼다.
+    // 그 밖의 값(외부 주소, 예전 데이터)은 그대로
+    public static String toKey(String image) {
+        if (image == null) {
+            return null;
+        }
+        String path;
+        if (image.startsWith(prefix())) {
+            path = image.substring(prefix().length());
+        } else if (image.startsWith(PATH)) {
+            path = image.substring(PATH.length());
+        } else {
+            return image;
+        }
+        if (path.endsWith(THUMBNAIL_SUFFIX)) {
+            path = path.substring(0, path.length() - THUMBNAIL_SUFFIX.length());
+        }
+        return isKey(path) ? path : image;
+    }
+
+    public static boolean isKey(String image) {
+        return image != null && KEY_PATTERN.matcher(image).matches();
+    }
+
+    // 썸네일은 원본 키 옆에 jpg 로 저장한다
+    public static String thumbnailKey(String key) {
+        return key.substring(0, key.lastIndexOf('.')) + "_thumb.jpg";
+    }
+
+    // 프론트가 다른 도메인이라 절대 주소가 필요하면 설정한다 (예: https://api.onedaypiece.com). 비어 있으면 경로만
+    public static void setBaseUrl(String baseUrl) {
+        prefix = baseUrl == null || baseUrl.isEmpty() ? PATH : baseUrl.replaceAll("/+$", "") + PATH;
+    }
+
+    private static String prefix() {
+        return prefix;
+    }
+}
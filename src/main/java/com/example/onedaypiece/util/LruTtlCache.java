@@ -0,0 +1,140 @@
+package com.example.onedaypiece.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한(LRU)과 만료 시간(TTL)이 있는 간단한 메모리 캐시.
+ * 가장 오래 안 쓴 항목부터 밀려나고, 만료된 항목은 조회 시점에 지운다.
+ */
+public class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    // 무효화할 때마다 올라간다. 읽는 도중에 무효화가 있었으면 읽어온 값은 넣지 않는다
+    private long generation;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LruTtlCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        // accessOrder = true 라서 get 할 때마다 맨 뒤로 간다
+        this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                boolean evict = size() > LruTtlCache.this.maxSize;
+                if (evict) {
+                    evictionCount.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    // 있으면 캐시 값을, 없으면 loader 로 만들어서 넣고 돌려준다 (loader 는 락 밖에서 실행, null 은 넣지 않는다)
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt > clock.millis()) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+        missCount.incrementAndGet();
+        V value = loader.apply(key);
+        synchronized (this) {
+            if (value != null && loadGeneration == generation) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, clock.millis() + ttlMillis));
+    }
+
+    // 값마다 만료 시각이 따로 있을 때 (TTL 보다 늦게 만료되지는 않는다)
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new CacheEntry<>(value, Math.min(expiresAtMillis, clock.millis() + ttlMillis)));
+    }
+
+    // 없거나 만료됐으면 null
+    public V getIfPresent(K key) {
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt > clock.millis()) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    public synchronized void evict(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void evictIf(Predicate<K> condition) {
+        generation++;
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (condition.test(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.onedaypiece.util;
+
+import com.example.onedaypiece.web.domain.pointHistory.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 받은 멤버(member_id)가 비어있는 예전 포인트 내역을 한 번 채우는 마이그레이션.
+ * point.backfill-member=true 로 한 번 띄우면 되고, 이미 채워진 내역은 건드리지 않아서 다시 돌아도 괜찮다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.backfill-member", havingValue = "true")
+public class PointHistoryBackfillRunner implements ApplicationRunner {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer filledHistoryCount = transactionTemplate.execute(status ->
+                pointHistoryRepository.fillCertificationPointMember() + pointHistoryRepository.fillChallengePointMember());
+        log.info("point history backfill : {} histories filled", filledHistoryCount);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.onedaypiece.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 현재 시각은 항상 여기서 가져온다.
+ * 빈이 만들어질 때 한 번 잡아둔 날짜를 쓰면 다음 날부터 어긋나기 때문에 호출할 때마다 Clock 에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeProvider {
+
+    private final Clock clock;
+
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    // 오늘 자정
+    public LocalDateTime today() {
+        return LocalDate.now(clock).atStartOfDay();
+    }
+}
@@ -3,14 +3,21 @@ package com.example.onedaypiece.web.controller;
 import com.example.onedaypiece.service.AdminService;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.dto.response.admin.CacheStatsResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.KickReportResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.PointReconcileResponseDto;
+import com.example.onedaypiece.web.dto.response.admin.SchedulerReplayResponseDto;
 import com.example.onedaypiece.web.dto.response.challenge.ChallengeResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -29,4 +36,25 @@ public class AdminController {
         adminService.deleteChallengeByAdmin(challengeId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/api/admin/kick/dry-run") // 인증 누락 강퇴 대상 미리보기
+    public ResponseEntity<KickReportResponseDto> getCertificationKickDryRun() {
+        return ResponseEntity.ok().body(adminService.getCertificationKickDryRun());
+    }
+
+    @GetMapping("/api/admin/cache") // 메모리 캐시 적중률
+    public ResponseEntity<List<CacheStatsResponseDto>> getCacheStats() {
+        return ResponseEntity.ok().body(adminService.getCacheStats());
+    }
+
+    @GetMapping("/api/admin/point/reconcile") // 포인트 잔액과 적립 내역 합계 대조
+    public ResponseEntity<PointReconcileResponseDto> reconcilePoint() {
+        return ResponseEntity.ok().body(adminService.reconcilePoint());
+    }
+
+    @PostMapping("/api/admin/scheduler/replay/{date}") // 해당 날짜(yyyy-MM-dd) 자정 작업 재실행
+    public ResponseEntity<SchedulerReplayResponseDto> replayScheduler(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok().body(adminService.replayScheduler(date));
+    }
 }
@@ -1,16 +1,18 @@
 package com.example.onedaypiece.web.controller;
 
+import com.example.onedaypiece.service.CertificationInboxService;
 import com.example.onedaypiece.service.CertificationService;
+import com.example.onedaypiece.service.MemberIdResolver;
 import com.example.onedaypiece.web.dto.request.certification.CertificationRequestDto;
+import com.example.onedaypiece.web.dto.response.certification.CertificationInboxResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -19,6 +21,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class CertificationController {
 
     private final CertificationService certificationService;
+    private final CertificationInboxService certificationInboxService;
+    private final MemberIdResolver memberIdResolver;
 
     @PostMapping("")
     public ResponseEntity<Boolean> createCertification(
@@ -26,6 +30,13 @@ public class CertificationController {
             @AuthenticationPrincipal UserDetails userDetails){
 
         log.info("certificationRequestDto : {} ",certificationRequestDto);
-        return ResponseEntity.ok().body(certificationService.createCertification(certificationRequestDto,userDetails));
+        return ResponseEntity.ok().body(certificationService.createCertification(certificationRequestDto,memberIdResolver.getMemberId(userDetails)));
+    }
+
+    // 참여 중인 챌린지들의 오늘 포스팅 중 아직 인증 안 한 것
+    @GetMapping("/inbox")
+    public ResponseEntity<List<CertificationInboxResponseDto>> getCertificationInbox(
+            @AuthenticationPrincipal UserDetails userDetails){
+        return ResponseEntity.ok().body(certificationInboxService.getInbox(memberIdResolver.getMemberId(userDetails)));
     }
 }
@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.controller;
 
 import com.example.onedaypiece.service.ChallengeService;
+import com.example.onedaypiece.service.MemberIdResolver;
 import com.example.onedaypiece.web.dto.request.challenge.ChallengeRequestDto;
 import com.example.onedaypiece.web.dto.request.challenge.PutChallengeRequestDto;
 import com.example.onedaypiece.web.dto.response.challenge.ChallengeMainResponseDto;
@@ -20,6 +21,7 @@ import java.util.List;
 public class ChallengeController {
 
     private final ChallengeService challengeService;
+    private final MemberIdResolver memberIdResolver;
 
     @GetMapping("/api/guest/main") // 비로그인 메인 페이지
     public ResponseEntity<ChallengeMainResponseDto> getGuestMainChallengeDetail() {
@@ -43,18 +45,18 @@ public class ChallengeController {
 
     @PostMapping("/api/member/challenge") // 챌린지 등록
     public ResponseEntity<Long> createChallenge(@RequestBody ChallengeRequestDto requestDto, @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok().body(challengeService.createChallenge(requestDto, userDetails.getUsername()));
+        return ResponseEntity.ok().body(challengeService.createChallenge(requestDto, memberIdResolver.getMemberId(userDetails)));
     }
 
     @PutMapping("/api/member/challenge") // 챌린지 수정
     public ResponseEntity<Void> putChallenge(@RequestBody PutChallengeRequestDto requestDto, @AuthenticationPrincipal UserDetails userDetails) {
-        challengeService.putChallenge(requestDto, userDetails.getUsername());
+        challengeService.putChallenge(requestDto, memberIdResolver.getMemberId(userDetails));
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/api/member/challenge/{challengeId}") // 챌린지 취소 (유저에겐 삭제, 관리자 입장에선 상태 true->false)
     public ResponseEntity<Void> deleteChallenge(@PathVariable Long challengeId, @AuthenticationPrincipal UserDetails userDetails) {
-        challengeService.deleteChallenge(challengeId, userDetails.getUsername());
+        challengeService.deleteChallenge(challengeId, memberIdResolver.getMemberId(userDetails));
         return ResponseEntity.ok().build();
     }
 }
@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.controller;
 
 import com.example.onedaypiece.service.ChallengeRecordService;
+import com.example.onedaypiece.service.MemberIdResolver;
 import com.example.onedaypiece.web.dto.request.challengeRecord.ChallengeRecordRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,18 +14,19 @@ import org.springframework.web.bind.annotation.*;
 public class ChallengeRecordController {
 
     private final ChallengeRecordService challengeRecordService;
+    private final MemberIdResolver memberIdResolver;
 
     @PostMapping("/api/member/challenge-request") // 챌린지 신청
     public ResponseEntity<Void> requestChallenge(@RequestBody ChallengeRecordRequestDto requestDto,
                                                  @AuthenticationPrincipal UserDetails userDetails) {
-        challengeRecordService.requestChallenge(requestDto, userDetails.getUsername());
+        challengeRecordService.requestChallenge(requestDto, memberIdResolver.getMemberId(userDetails));
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/api/member/challenge-give-up/{challengeId}") // 챌린지 포기
     public ResponseEntity<Void> giveUpChallenge(@PathVariable Long challengeId,
                                                 @AuthenticationPrincipal UserDetails userDetails) {
-        challengeRecordService.giveUpChallenge(challengeId, userDetails.getUsername());
+        challengeRecordService.giveUpChallenge(challengeId, memberIdResolver.getMemberId(userDetails));
         return ResponseEntity.ok().build();
     }
 }
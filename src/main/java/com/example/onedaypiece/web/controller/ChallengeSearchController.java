@@ -34,4 +34,10 @@ public class ChallengeSearchController {
     public ResponseEntity<List<ChallengeTitleSearchResponseDto>> getChallengeTitle(@PathVariable Long progress) {
         return ResponseEntity.ok().body(challengeSearchService.getChallengeTitle(progress));
     }
+
+    @GetMapping("/api/guest/challenge-title/{progress}/{prefix}") // 제목 자동완성
+    public ResponseEntity<List<ChallengeTitleSearchResponseDto>> getChallengeTitleAutocomplete(@PathVariable Long progress,
+                                                                                              @PathVariable String prefix) {
+        return ResponseEntity.ok().body(challengeSearchService.getChallengeTitleAutocomplete(progress, prefix));
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.onedaypiece.web.controller;
+
+import com.example.onedaypiece.service.ImageIngestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@RestController
+public class ImageController {
+
+    private final ImageIngestService imageIngestService;
+
+    @GetMapping("/api/images/{key:.+}") // 원본 이미지
+    public ResponseEntity<byte[]> getImage(@PathVariable String key) {
+        return toResponse(key, imageIngestService.getImage(key));
+    }
+
+    @GetMapping("/api/images/{key:.+}/thumbnail") // 썸네일 (없으면 원본)
+    public ResponseEntity<byte[]> getThumbnail(@PathVariable String key) {
+        return toResponse(key, imageIngestService.getThumbnail(key));
+    }
+
+    // 키는 한 번 정해지면 내용이 바뀌지 않으므로 오래 캐시해도 된다
+    private ResponseEntity<byte[]> toResponse(String key, Optional<byte[]> image) {
+        return image
+                .map(bytes -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(imageIngestService.getContentType(key, bytes)))
+                        .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+                        .body(bytes))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
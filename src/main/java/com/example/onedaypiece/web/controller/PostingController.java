@@ -1,5 +1,6 @@
 package com.example.onedaypiece.web.controller;
 
+import com.example.onedaypiece.service.MemberIdResolver;
 import com.example.onedaypiece.service.PostingService;
 import com.example.onedaypiece.web.dto.request.posting.PostingCreateRequestDto;
 import com.example.onedaypiece.web.dto.request.posting.PostingUpdateRequestDto;
@@ -19,6 +20,7 @@ import javax.validation.Valid;
 @RequestMapping("/api/posting")
 public class PostingController {
     private final PostingService postingService;
+    private final MemberIdResolver memberIdResolver;
     /**
      * 1.포스트 저장
      */
@@ -26,8 +28,8 @@ public class PostingController {
     public ResponseEntity<Long> createPosting(@RequestBody @Valid PostingCreateRequestDto postingRequestDto,
                                               @AuthenticationPrincipal UserDetails userDetails){
         log.info("createPosting 포스트 저장: {} ",postingRequestDto);
-        String email = userDetails.getUsername();
-        return ResponseEntity.ok().body(postingService.createPosting(postingRequestDto,email));
+        Long memberId = memberIdResolver.getMemberId(userDetails);
+        return ResponseEntity.ok().body(postingService.createPosting(postingRequestDto,memberId));
     }
     /**
      * 2.포스트 리스트
@@ -40,6 +42,16 @@ public class PostingController {
         log.info("getPosting 전체 포스트 리스트 : {} ",challengeId);
         return ResponseEntity.ok().body(postingService.getPosting(page,challengeId));
     }
+    /**
+     * 2-1.포스트 리스트 (커서 기반, 첫 요청은 cursor 없이)
+     */
+    @GetMapping("/cursor/{challengeId}")
+    public ResponseEntity<PostingListDto> getPostingByCursor(@PathVariable Long challengeId,
+                                                             @RequestParam(required = false) String cursor){
+
+        log.info("getPostingByCursor 포스트 리스트 : {} {} ",challengeId,cursor);
+        return ResponseEntity.ok().body(postingService.getPostingByCursor(challengeId,cursor));
+    }
     /**
      * 3.포스트 업데이트
      */
@@ -48,8 +60,8 @@ public class PostingController {
                                               @AuthenticationPrincipal UserDetails userDetails,
                                               @RequestBody PostingUpdateRequestDto postingUpdateRequestDto){
         log.info("updatePosting  포스팅 업데이트 : {} ",postingUpdateRequestDto);
-        String email = userDetails.getUsername();
-        return ResponseEntity.ok().body(postingService.updatePosting(postingId,email,postingUpdateRequestDto));
+        Long memberId = memberIdResolver.getMemberId(userDetails);
+        return ResponseEntity.ok().body(postingService.updatePosting(postingId,memberId,postingUpdateRequestDto));
     }
     /**
      * 4.포스트 삭제
@@ -58,8 +70,8 @@ public class PostingController {
     public ResponseEntity<Long> deletePosting(@PathVariable Long postingId,
                                               @AuthenticationPrincipal UserDetails userDetails){
         log.info("deletePosting 포스트 삭제: {} ", postingId);
-        String email = userDetails.getUsername();
-        return ResponseEntity.ok().body(postingService.deletePosting(postingId,email));
+        Long memberId = memberIdResolver.getMemberId(userDetails);
+        return ResponseEntity.ok().body(postingService.deletePosting(postingId,memberId));
     }
 
 }
@@ -12,8 +12,12 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = {@UniqueConstraint(name = Certification.UK_POSTING_MEMBER, columnNames = {"posting_id", "member_id"})})
 public class Certification extends Timestamped {
 
+    // 한 멤버는 한 포스팅을 한 번만 인증한다
+    public static final String UK_POSTING_MEMBER = "uk_certification_posting_member";
+
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
     @Column(name="certification_id")
@@ -33,10 +37,9 @@ public class Certification extends Timestamped {
     }
 
 
+    // 인증 인원은 PostingRepository.increasePostingCount 로 DB 에서 올린다
     public static Certification createCertification(Member member, Posting posting) {
-        Certification certification =new Certification(member,posting);
-        posting.addCount();
-        return certification;
+        return new Certification(member,posting);
     }
 
 }
@@ -3,6 +3,7 @@ package com.example.onedaypiece.web.domain.certification;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.dto.query.CertificationMemberQueryDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +20,12 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
     List<Certification> findAllByPosting(Long challengeId);
 
 
+    // 한 페이지에 담긴 포스팅들의 인증 멤버
+    @Query("select new com.example.onedaypiece.web.dto.query.CertificationMemberQueryDto(c.posting.postingId, c.member.memberId) " +
+            "from Certification c " +
+            "where c.posting.postingId in :postingIdList")
+    List<CertificationMemberQueryDto> findCertificationMemberList(List<Long> postingIdList);
+
     @Query("select c " +
             "from Certification c " +
             "join fetch c.posting " +
@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor
 @Table(indexes = {@Index(name = "idx_status_progress", columnList = "challenge_status, challenge_progress"),
+        @Index(name = "idx_status_progress_start", columnList = "challenge_status, challenge_progress, challenge_start_date"),
+        @Index(name = "idx_status_progress_end", columnList = "challenge_status, challenge_progress, challenge_end_date"),
         @Index(name = "idx_status", columnList = "challenge_status")})
 public class Challenge extends Timestamped implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,10 +37,10 @@ public class Challenge extends Timestamped implements Serializable {
     @Column(nullable = false)
     private String challengePassword;
 
-    @Column(nullable = false)
+    @Column(name = "challenge_start_date", nullable = false)
     private LocalDateTime challengeStartDate;
 
-    @Column(nullable = false)
+    @Column(name = "challenge_end_date", nullable = false)
     private LocalDateTime challengeEndDate;
 
     // 삭제 여부
@@ -99,4 +101,9 @@ public class Challenge extends Timestamped implements Serializable {
         this.challengeHoliday = requestDto.getChallengeHoliday();
         this.member = member;
     }
+
+    // 이미지 저장 후 키로 교체
+    public void updateChallengeImgUrl(String challengeImgUrl) {
+        this.challengeImgUrl = challengeImgUrl;
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.onedaypiece.web.domain.challenge;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 챌린지 생성/수정/삭제/참여/포기/시작/종료 시 발행되는 이벤트 (커밋 이후 캐시, 인덱스 갱신용)
+@Getter
+@ToString
+public class ChallengeEvent {
+
+    public enum EventType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        JOINED,
+        GAVE_UP,
+        STARTED,
+        ENDED
+    }
+
+    private final EventType type;
+    private final Long challengeId;
+    private final Long memberId;
+
+    private ChallengeEvent(EventType type, Long challengeId, Long memberId) {
+        this.type = type;
+        this.challengeId = challengeId;
+        this.memberId = memberId;
+    }
+
+    public static ChallengeEvent created(Long challengeId, Long memberId) {
+        return new ChallengeEvent(EventType.CREATED, challengeId, memberId);
+    }
+
+    public static ChallengeEvent updated(Long challengeId) {
+        return new ChallengeEvent(EventType.UPDATED, challengeId, null);
+    }
+
+    public static ChallengeEvent deleted(Long challengeId) {
+        return new ChallengeEvent(EventType.DELETED, challengeId, null);
+    }
+
+    public static ChallengeEvent joined(Long challengeId, Long memberId) {
+        return new ChallengeEvent(EventType.JOINED, challengeId, memberId);
+    }
+
+    public static ChallengeEvent gaveUp(Long challengeId, Long memberId) {
+        return new ChallengeEvent(EventType.GAVE_UP, challengeId, memberId);
+    }
+
+    public static ChallengeEvent started(Long challengeId) {
+        return new ChallengeEvent(EventType.STARTED, challengeId, null);
+    }
+
+    public static ChallengeEvent ended(Long challengeId) {
+        return new ChallengeEvent(EventType.ENDED, challengeId, null);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QPageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +19,7 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
             "and c.member.memberStatus = 1 and c.member = :member")
     List<Challenge> findAllByMember(Member member);
 
-    @Query("select c from Challenge c " +
+    @Query("select c from Challenge c join fetch c.member " +
             "Where c.challengeStatus = true and c.challengeProgress = 1 and c.categoryName = :categoryName " +
             "ORDER BY c.modifiedAt DESC")
     List<Challenge> findAllByCategoryNameOrderByModifiedAtDescListed(CategoryName categoryName, Pageable pageable);
@@ -28,18 +29,42 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
             "ORDER BY c.modifiedAt DESC")
     List<Challenge> findAllByWordsAndChallengeStatusTrueOrderByModifiedAtDesc(String words, Pageable pageable);
 
+    // 참여 멤버가 있는 진행 예정 챌린지 (시작일 순)
+    @Query(value = "select c from Challenge c " +
+            "Where c.challengeStatus = true and c.challengeProgress = 1 " +
+            "and exists (select r from ChallengeRecord r where r.challenge = c and r.challengeRecordStatus = true) " +
+            "ORDER BY c.challengeStartDate ASC, c.challengeId ASC",
+            countQuery = "select count(c) from Challenge c " +
+            "Where c.challengeStatus = true and c.challengeProgress = 1 " +
+            "and exists (select r from ChallengeRecord r where r.challenge = c and r.challengeRecordStatus = true)")
+    Page<Challenge> findAllNotStarted(Pageable pageable);
+
+    @Query("select c from Challenge c join fetch c.member " +
+            "Where c.challengeStatus = true and c.challengeProgress = 1 and c.challengeId in :challengeIdList")
+    List<Challenge> findAllByIdInWithMember(List<Long> challengeIdList);
+
     @Query("select c from Challenge c where c.challengeStatus = true and c.challengeId =:challengeId")
     Optional<Challenge> findChallengeStatusTrue(Long challengeId);
 
     List<Challenge> findAllByChallengeStatusTrueAndChallengeProgressLessThan(Long challengeProgress);
 
+    // 시작일이 지난 진행 예정 챌린지 (참여 멤버가 있는 것만)
+    @Query("select c.challengeId from Challenge c " +
+            "Where c.challengeStatus = true and c.challengeProgress = 1 and c.challengeStartDate < :tomorrow " +
+            "and exists (select r from ChallengeRecord r where r.challenge = c and r.challengeRecordStatus = true) " +
+            "ORDER BY c.challengeId ASC")
+    List<Long> findChallengeIdsToStart(LocalDateTime tomorrow);
 
-    @Modifying(clearAutomatically = true)
-    @Query("update ChallengeRecord c " +
-            "set c.challengeRecordStatus = false " +
-            "where c.member.memberId in :kickMember " +
-            "and c.challenge.challengeId in :kickChallenge")
-    int kickMemberOnChallenge(List<Long> kickMember, List<Long> kickChallenge);
-
+    // 종료일이 지난 진행 중 챌린지 (참여 멤버가 있는 것만)
+    @Query("select c.challengeId from Challenge c " +
+            "Where c.challengeStatus = true and c.challengeProgress = 2 and c.challengeEndDate < :today " +
+            "and exists (select r from ChallengeRecord r where r.challenge = c and r.challengeRecordStatus = true) " +
+            "ORDER BY c.challengeId ASC")
+    List<Long> findChallengeIdsToEnd(LocalDateTime today);
 
+    // 현재 진행 상태가 맞는 챌린지만 바꾸기 때문에 같은 날 다시 돌려도 두 번 바뀌지 않는다
+    @Modifying(clearAutomatically = true)
+    @Query("update Challenge c set c.challengeProgress = :nextProgress " +
+            "where c.challengeProgress = :progress and c.challengeId in :challengeIdList")
+    int updateChallengeProgress(List<Long> challengeIdList, Long progress, Long nextProgress);
 }
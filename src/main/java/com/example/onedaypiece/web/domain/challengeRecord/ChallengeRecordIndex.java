@@ -0,0 +1,43 @@
+package com.example.onedaypiece.web.domain.challengeRecord;
+
+import com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto;
+
+import java.util.*;
+
+/**
+ * challengeId 별 참여 멤버 id 묶음.
+ * 레코드 목록을 한 번만 훑어서 만들어두고, 카드(dto)마다 전체 레코드를 다시 필터링하지 않도록 넘겨서 쓴다.
+ */
+public class ChallengeRecordIndex {
+
+    private final Map<Long, Set<Long>> memberIds = new HashMap<>();
+
+    public static ChallengeRecordIndex of(Collection<ChallengeRecord> records) {
+        ChallengeRecordIndex index = new ChallengeRecordIndex();
+        records.forEach(r -> index.add(r.getChallenge().getChallengeId(), r.getMember().getMemberId()));
+        return index;
+    }
+
+    public static ChallengeRecordIndex fromQuery(Collection<ChallengeMemberQueryDto> rows) {
+        ChallengeRecordIndex index = new ChallengeRecordIndex();
+        rows.forEach(r -> index.add(r.getChallengeId(), r.getMemberId()));
+        return index;
+    }
+
+    public ChallengeRecordIndex add(Long challengeId, Long memberId) {
+        memberIds.computeIfAbsent(challengeId, id -> new HashSet<>()).add(memberId);
+        return this;
+    }
+
+    public Set<Long> memberIdsOf(Long challengeId) {
+        return Collections.unmodifiableSet(memberIds.getOrDefault(challengeId, Collections.emptySet()));
+    }
+
+    public int countOf(Long challengeId) {
+        return memberIds.getOrDefault(challengeId, Collections.emptySet()).size();
+    }
+
+    public boolean contains(Long challengeId) {
+        return memberIds.containsKey(challengeId);
+    }
+}
@@ -3,10 +3,15 @@ package com.example.onedaypiece.web.domain.challengeRecord;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.dto.query.ChallengeMemberCountQueryDto;
+import com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto;
+import com.example.onedaypiece.web.dto.query.KickTargetQueryDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord, Long> {
@@ -71,6 +76,51 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
             "order by c.modifiedAt desc")
     List<ChallengeRecord> findAllByStatusTrueOrderByModifiedAtDesc();
 
+    // 페이지에 담긴 챌린지들의 참여 멤버를 한 번에 조회
+    @Query("select new com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto(c.challenge.challengeId, c.member.memberId) " +
+            "from ChallengeRecord c " +
+            "Where c.challengeRecordStatus = true and c.challenge.challengeId in :challengeIdList")
+    List<ChallengeMemberQueryDto> findChallengeMemberList(List<Long> challengeIdList);
+
+    // 진행 예정/진행 중 챌린지별 참여 인원
+    @Query("select new com.example.onedaypiece.web.dto.query.ChallengeMemberCountQueryDto(c.challenge.challengeId, count(c)) " +
+            "from ChallengeRecord c " +
+            "Where c.challengeRecordStatus = true and c.challenge.challengeStatus = true and c.challenge.challengeProgress < 3 " +
+            "group by c.challenge.challengeId")
+    List<ChallengeMemberCountQueryDto> findChallengeMemberCountList();
+
+    // 진행 중 챌린지에서 어제(:yesterday ~ :today) 승인된 인증글이 없는 참여 기록
+    @Query("select new com.example.onedaypiece.web.dto.query.KickTargetQueryDto(r.challengeRecordId, r.challenge.challengeId, r.member.memberId) " +
+            "from ChallengeRecord r " +
+            "Where r.challengeRecordStatus = true " +
+            "and r.challenge.challengeStatus = true " +
+            "and r.challenge.challengeProgress = 2 " +
+            "and r.challenge.challengeStartDate < :today " +
+            "and not exists (select p from Posting p " +
+            "where p.member = r.member and p.challenge = r.challenge " +
+            "and p.postingStatus = true and p.postingApproval = true " +
+            "and p.createdAt >= :yesterday and p.createdAt < :today)")
+    List<KickTargetQueryDto> findKickTargetList(LocalDateTime yesterday, LocalDateTime today);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ChallengeRecord c set c.challengeRecordStatus = false " +
+            "where c.challengeRecordStatus = true and c.challengeRecordId in :challengeRecordIdList")
+    int kickChallengeRecords(List<Long> challengeRecordIdList);
+
+    // 종료되는 챌린지들의 참여 기록
+    @Query("select r from ChallengeRecord r " +
+            "inner join fetch r.challenge " +
+            "Where r.challengeRecordStatus = true and r.challenge.challengeId in :challengeIdList")
+    List<ChallengeRecord> findAllByChallengeIdInWithChallenge(List<Long> challengeIdList);
+
+    // 메인 페이지 슬라이더용 (본인이 참여한 진행 예정 챌린지)
+    @Query("select c.challenge.challengeId " +
+            "from ChallengeRecord c " +
+            "Where c.challengeRecordStatus = true and c.challenge.challengeProgress = 1 " +
+            "and c.member.email = :email " +
+            "order by c.modifiedAt desc")
+    List<Long> findNotStartedChallengeIdsByEmail(String email);
+
     @Query("select CASE WHEN count(c)>0 then true else false end " +
             "from ChallengeRecord c " +
             "Where c.challengeRecordStatus = true and c.member = :member and c.challenge = :challenge")
@@ -16,7 +16,9 @@ import java.io.Serializable;
 @NoArgsConstructor
 @Entity
 @Getter
-@Table(indexes = {@Index(name = "idx_member_status", columnList = "member_status")})
+@Table(indexes = {
+        @Index(name = "idx_member_status", columnList = "member_status"),
+        @Index(name = "idx_member_email", columnList = "email")})
 public class Member extends Timestamped implements Serializable {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -81,14 +83,9 @@ public class Member extends Timestamped implements Serializable {
         return this.profileImg;
     }
 
-    // 업데이트완료된 토탈 포인트 보내주기
-    public Long updatePoint(Long getPoint) {
-        Long before = this.getPoint().getAcquiredPoint();
-        Long result;
-        result = before + getPoint;
-        this.getPoint().setAcquiredPoint(result);
-        return result;
+    // 이미지 저장 후 키로 교체
+    public void updateProfileImg(String profileImg) {
+        this.profileImg = profileImg;
     }
-
 }
 
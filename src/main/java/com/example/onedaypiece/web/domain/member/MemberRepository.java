@@ -1,7 +1,10 @@
 package com.example.onedaypiece.web.domain.member;
 
 
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 
 import java.util.Optional;
@@ -10,6 +13,21 @@ public interface MemberRepository extends JpaRepository<Member,Long> {
 
     // Email로 멤버 조회
     Optional<Member> findByEmail(String email);
+    // Email로 멤버 id만 조회 (엔티티를 올리지 않는다)
+    @Query("select m.memberId from Member m where m.email = :email")
+    Optional<Long> findMemberIdByEmail(String email);
+    // Email로 멤버 기본 정보만 조회 (멤버 정보 캐시가 비었을 때)
+    @Query("select new com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto(" +
+            "m.memberId, m.email, m.nickname, m.profileImg, m.role) " +
+            "from Member m where m.email = :email")
+    Optional<MemberIdentityQueryDto> findIdentityByEmail(String email);
+    // 로그인 때 비밀번호 해시만 DB 에서 바로 읽는다 (캐시에 두지 않는다)
+    @Query("select m.password from Member m where m.email = :email")
+    Optional<String> findPasswordByEmail(String email);
+    // 로그인 후 비밀번호를 새 cost 로 다시 해시해서 저장 (그 사이 비밀번호가 바뀌었으면 건드리지 않는다)
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :password where m.email = :email and m.password = :previousPassword")
+    int updatePasswordByEmail(String email, String previousPassword, String password);
     // Nickname으로 멤버 조회
     Optional<Member> findByNickname(String nickname);
 
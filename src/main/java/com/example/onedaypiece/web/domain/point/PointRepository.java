@@ -1,7 +1,22 @@
 package com.example.onedaypiece.web.domain.point;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface PointRepository extends JpaRepository<Point, Long> {
 
+    // 잔액을 읽어서 더하지 않고 DB 에서 바로 더한다 (동시에 지급돼도 누락되지 않는다)
+    @Modifying(flushAutomatically = true)
+    @Query("update Point p set p.acquiredPoint = p.acquiredPoint + :amount " +
+            "where p.pointId = (select m.point.pointId from Member m where m.memberId = :memberId)")
+    int increaseAcquiredPoint(Long memberId, Long amount);
+
+    // 같은 포인트를 받는 멤버들을 한 번에
+    @Modifying(flushAutomatically = true)
+    @Query("update Point p set p.acquiredPoint = p.acquiredPoint + :amount " +
+            "where p.pointId in (select m.point.pointId from Member m where m.memberId in :memberIdList)")
+    int increaseAcquiredPointAll(List<Long> memberIdList, Long amount);
 }
@@ -3,6 +3,7 @@ package com.example.onedaypiece.web.domain.pointHistory;
 import com.example.onedaypiece.web.domain.certification.Certification;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
 import com.example.onedaypiece.web.domain.common.Timestamped;
+import com.example.onedaypiece.web.domain.member.Member;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -11,6 +12,7 @@ import javax.persistence.*;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {@Index(name = "idx_point_history_member", columnList = "member_id")})
 public class PointHistory extends Timestamped {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,19 +31,26 @@ public class PointHistory extends Timestamped {
     @JoinColumn(name="challenge_id")
     private ChallengeRecord challengeRecord;
 
+    // 포인트를 받은 멤버 (포인트 원장 기준)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="member_id")
+    private Member member;
+
     // 상태 아직안쓴거면 true / 사용했으면 false
     @Column
     private boolean status;
 
-    public PointHistory(Long getPoint, Certification certification){
+    public PointHistory(Long getPoint, Certification certification, Member member){
         this.getPoint = getPoint;
         this.certification = certification;
+        this.member = member;
         this.status = true;
     }
 
     public PointHistory(Long getPoint, ChallengeRecord challengeRecord) {
         this.getPoint = getPoint;
         this.challengeRecord = challengeRecord;
+        this.member = challengeRecord.getMember();
         this.status = true;
     }
 
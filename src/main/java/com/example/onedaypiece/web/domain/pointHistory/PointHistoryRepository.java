@@ -1,14 +1,38 @@
 package com.example.onedaypiece.web.domain.pointHistory;
 
+import com.example.onedaypiece.web.dto.query.PointBalanceQueryDto;
 import com.example.onedaypiece.web.dto.response.mypage.histroy.MemberHistoryDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
+    // 원장(포인트 내역 합계)과 잔액이 다른 멤버
+    @Query("select new com.example.onedaypiece.web.dto.query.PointBalanceQueryDto(m.memberId, pt.acquiredPoint, coalesce(sum(h.getPoint), 0L)) " +
+            "from Member m join m.point pt " +
+            "left join PointHistory h on h.member = m " +
+            "group by m.memberId, pt.acquiredPoint " +
+            "having pt.acquiredPoint <> coalesce(sum(h.getPoint), 0L)")
+    List<PointBalanceQueryDto> findUnbalancedPointList();
+
+    // 포인트 받은 멤버가 비어있는 예전 내역 채우기 (인증 포인트는 포스팅 작성자)
+    @Modifying
+    @Query("update PointHistory h set h.member = " +
+            "(select p.member from Certification c join c.posting p where c = h.certification) " +
+            "where h.member is null and h.certification is not null")
+    int fillCertificationPointMember();
+
+    // 포인트 받은 멤버가 비어있는 예전 내역 채우기 (챌린지 완주 포인트는 참여자)
+    @Modifying
+    @Query("update PointHistory h set h.member = " +
+            "(select r.member from ChallengeRecord r where r = h.challengeRecord) " +
+            "where h.member is null and h.challengeRecord is not null")
+    int fillChallengePointMember();
+
     //3 차
     @Query("select p, " +
             "p.certification.member, " +
@@ -15,7 +15,9 @@ import javax.persistence.*;
 @Entity
 @NoArgsConstructor
 @Table(indexes = {@Index(name = "idx_modify_status", columnList = "postingModifyOk"),
-        @Index(name = "idx_status", columnList = "postingApproval")})
+        @Index(name = "idx_status", columnList = "postingApproval"),
+        @Index(name = "idx_challenge_status_created", columnList = "challenge_id, postingStatus, createdAt"),
+        @Index(name = "idx_member_challenge_created", columnList = "member_id, challenge_id, createdAt")})
 public class Posting extends Timestamped {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
@@ -73,17 +75,17 @@ public class Posting extends Timestamped {
 
     }
 
+    // 이미지 저장 후 키로 교체
+    public void updatePostingImg(String postingImg) {
+        this.postingImg = postingImg;
+    }
+
     // 삭제 로직
     public void deletePosting() {
         this.postingStatus = false;
 
     }
 
-    // 인증 인원수 추가 로직
-    public void addCount() {
-        this.postingCount += 1;
-    }
-
     // 수정 가능 여부 로직
     public void updateStatus() {
         this.postingModifyOk = false;
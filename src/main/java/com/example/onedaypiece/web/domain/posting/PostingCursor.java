@@ -0,0 +1,54 @@
+package com.example.onedaypiece.web.domain.posting;
+
+import com.example.onedaypiece.exception.ApiRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 포스팅 피드 무한 스크롤용 커서 (createdAt, postingId).
+ * 클라이언트에는 내용을 알 수 없는 문자열로 내려주고, 다음 요청 때 그대로 받아서 이어서 조회한다.
+ */
+@Getter
+public class PostingCursor {
+
+    // 첫 페이지는 모든 포스팅보다 뒤에 있는 커서로 조회한다
+    public static final PostingCursor FIRST = new PostingCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long postingId;
+
+    private PostingCursor(LocalDateTime createdAt, Long postingId) {
+        this.createdAt = createdAt;
+        this.postingId = postingId;
+    }
+
+    // 현재 페이지 마지막 포스팅 기준
+    public static PostingCursor of(LocalDateTime createdAt, Long postingId) {
+        return new PostingCursor(createdAt, postingId);
+    }
+
+    public static PostingCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new PostingCursor(LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ApiRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,7 +3,11 @@ package com.example.onedaypiece.web.domain.posting;
 
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
-import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.dto.query.ApprovedPostingCountQueryDto;
+import com.example.onedaypiece.web.dto.query.CertificationInboxQueryDto;
+import com.example.onedaypiece.web.dto.query.CertificationTargetQueryDto;
+import com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto;
+import com.example.onedaypiece.web.dto.query.PostingFeedQueryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -14,42 +18,111 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostingRepository extends JpaRepository<Posting,Long> {
 
-    // 포스팅 전체 리스트
-    @Query("select p from Posting p " +
-            "left join fetch p.member " +
+    // 포스팅 전체 리스트 (피드에 필요한 컬럼만)
+    @Query("select new com.example.onedaypiece.web.dto.query.PostingFeedQueryDto(" +
+            "p.postingId, p.postingImg, p.postingContent, p.postingCount, p.postingApproval, p.postingModifyOk, " +
+            "p.createdAt, p.modifiedAt, m.memberId, m.nickname, m.profileImg) " +
+            "from Posting p join p.member m " +
             "where p.challenge.challengeId = :challengeId " +
             "and p.postingStatus = true " +
             "order by p.createdAt desc" )
-    Slice<Posting> findPostingList(Long challengeId,Pageable pageable);
+    Slice<PostingFeedQueryDto> findPostingFeedList(Long challengeId, Pageable pageable);
 
 
-    // 스케줄러
-    @Query("select p from Posting p " +
-            "where p.postingStatus=true " +
-            "and p.postingModifyOk=true " +
-            "and p.createdAt < :today")
-    List<Posting> findSchedulerUpdatePosting(LocalDateTime today);
+    // 포스팅 리스트 (커서 이후부터, 최신순)
+    @Query("select new com.example.onedaypiece.web.dto.query.PostingFeedQueryDto(" +
+            "p.postingId, p.postingImg, p.postingContent, p.postingCount, p.postingApproval, p.postingModifyOk, " +
+            "p.createdAt, p.modifiedAt, m.memberId, m.nickname, m.profileImg) " +
+            "from Posting p join p.member m " +
+            "where p.challenge.challengeId = :challengeId " +
+            "and p.postingStatus = true " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.postingId < :postingId)) " +
+            "order by p.createdAt desc, p.postingId desc")
+    List<PostingFeedQueryDto> findPostingFeedListByCursor(Long challengeId, LocalDateTime createdAt, Long postingId, Pageable pageable);
+
+    // 내가 참여 중인 진행 중 챌린지들의 오늘 포스팅 중 아직 인증 안 한 것 (내 글 제외, 인증 여부는 anti join)
+    @Query("select new com.example.onedaypiece.web.dto.query.CertificationInboxQueryDto(" +
+            "p.postingId, c.challengeId, c.challengeTitle, p.postingImg, p.postingContent, p.postingCount, " +
+            "p.postingApproval, p.createdAt, m.memberId, m.nickname, m.profileImg) " +
+            "from Posting p join p.challenge c join p.member m " +
+            "where p.postingStatus = true " +
+            "and p.createdAt >= :today " +
+            "and m.memberId <> :memberId " +
+            "and c.challengeStatus = true and c.challengeProgress = 2 " +
+            "and exists (select r.challengeRecordId from ChallengeRecord r " +
+            "where r.challenge = c and r.member.memberId = :memberId and r.challengeRecordStatus = true) " +
+            "and not exists (select ce.certificationId from Certification ce " +
+            "where ce.posting = p and ce.member.memberId = :memberId) " +
+            "order by p.createdAt desc, p.postingId desc")
+    List<CertificationInboxQueryDto> findCertificationInboxList(Long memberId, LocalDateTime today);
+
+    // 인증할 포스팅과 참여 인원을 한 번에 (엔티티 조회 없이)
+    @Query("select new com.example.onedaypiece.web.dto.query.CertificationTargetQueryDto(" +
+            "p.postingId, p.challenge.challengeId, p.member.memberId, p.postingApproval, " +
+            "(select count(r) from ChallengeRecord r where r.challenge = p.challenge and r.challengeRecordStatus = true)) " +
+            "from Posting p " +
+            "where p.postingId = :postingId and p.postingStatus = true")
+    Optional<CertificationTargetQueryDto> findCertificationTarget(Long postingId);
+
+    // 인증 인원 +1 (읽고 쓰지 않고 DB 에서 바로 올린다)
+    @Modifying(flushAutomatically = true)
+    @Query("update Posting p set p.postingCount = p.postingCount + 1 " +
+            "where p.postingId = :postingId and p.postingStatus = true")
+    int increasePostingCount(Long postingId);
+
+    @Query("select p.postingCount from Posting p where p.postingId = :postingId")
+    Long findPostingCount(Long postingId);
+
+    // 아직 승인 안 된 포스팅만 승인 (동시에 여러 명이 기준을 넘겨도 한 트랜잭션만 1 을 받는다)
+    @Modifying(flushAutomatically = true)
+    @Query("update Posting p set p.postingApproval = true, p.postingPoint = true " +
+            "where p.postingId = :postingId and p.postingApproval = false and p.postingCount >= :approvalCount")
+    int approvePosting(Long postingId, Long approvalCount);
+
+    // 스케줄러 (수정 가능 상태로 남아있는 어제까지의 포스팅 id 를 id 순으로 한 덩어리씩)
+    @Query("select p.postingId from Posting p " +
+            "where p.postingModifyOk = true " +
+            "and p.postingStatus = true " +
+            "and p.createdAt < :today " +
+            "and p.postingId > :lastPostingId " +
+            "order by p.postingId asc")
+    List<Long> findSchedulerUpdatePostingIds(LocalDateTime today, Long lastPostingId, Pageable pageable);
 
     // 벌크 업데이트 쿼리
     @Modifying(clearAutomatically = true)
-    @Query("update Posting p set p.postingModifyOk = false where p in :postingList")
-    int updatePostingStatus(List<Posting> postingList);
+    @Query("update Posting p set p.postingModifyOk = false where p.postingId in :postingIdList")
+    int updatePostingStatus(List<Long> postingIdList);
+
+    // 종료되는 챌린지들의 멤버별 승인된 인증글 수
+    @Query("select new com.example.onedaypiece.web.dto.query.ApprovedPostingCountQueryDto(p.challenge.challengeId, p.member.memberId, count(p)) " +
+            "from Posting p " +
+            "where p.postingApproval = true and p.challenge.challengeId in :challengeIdList " +
+            "group by p.challenge.challengeId, p.member.memberId")
+    List<ApprovedPostingCountQueryDto> countApprovedPostingList(List<Long> challengeIdList);
 
     @Query("select p from Posting as p where p.postingApproval = true and p.challenge = :c")
     List<Posting> findAllByChallengeAndPostingApprovalTrue(Challenge c);
 
 
-    @Query("select p " +
+    // 오늘 이 챌린지에 쓴 글이 있는지 (idx_member_challenge_created)
+    @Query("select case when count(p) > 0 then true else false end " +
             "from Posting p " +
-            "where p.createdAt > :now " +
-            "and p.postingStatus = true " +
-            "and p.member = :member " +
-            "and p.challenge = :challenge ")
-    Posting existsTodayPosting(LocalDateTime now, Member member, Challenge challenge);
+            "where p.member.memberId = :memberId " +
+            "and p.challenge.challengeId = :challengeId " +
+            "and p.createdAt > :now " +
+            "and p.postingStatus = true")
+    boolean existsTodayPosting(LocalDateTime now, Long memberId, Long challengeId);
+
+    // 오늘 글을 쓴 (챌린지, 멤버) 목록 (DailyPostingGuard 채우기용)
+    @Query("select new com.example.onedaypiece.web.dto.query.ChallengeMemberQueryDto(p.challenge.challengeId, p.member.memberId) " +
+            "from Posting p " +
+            "where p.createdAt > :now and p.postingStatus = true")
+    List<ChallengeMemberQueryDto> findTodayPostingKeyList(LocalDateTime now);
 
 
     @Query("select p  " +
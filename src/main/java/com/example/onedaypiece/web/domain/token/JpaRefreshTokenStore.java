@@ -0,0 +1,38 @@
+package com.example.onedaypiece.web.domain.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Redis 를 못 쓸 때의 예전 방식 (refresh_token 테이블, 만료된 행은 지우지 않는다)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa")
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(String key, String refreshToken) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .key(key)
+                .value(refreshToken)
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> find(String key) {
+        return refreshTokenRepository.findByKey(key).map(RefreshToken::getValue);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(String key, String expected, String newToken) {
+        return refreshTokenRepository.updateValue(key, expected, newToken) == 1;
+    }
+}
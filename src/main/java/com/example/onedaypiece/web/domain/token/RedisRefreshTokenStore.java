@@ -0,0 +1,51 @@
+package com.example.onedaypiece.web.domain.token;
+
+import com.example.onedaypiece.security.TokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+
+// refresh token 을 Redis 에 토큰 유효기간만큼만 둔다 (만료된 토큰이 쌓이지 않는다)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "REFRESH_TOKEN:";
+    private static final Duration TTL = Duration.ofMillis(TokenProvider.REFRESH_TOKEN_EXPIRE_TIME);
+
+    // 비교와 교체를 Redis 안에서 한 번에 한다
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(String key, String refreshToken) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + key, refreshToken, TTL);
+    }
+
+    @Override
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(KEY_PREFIX + key));
+    }
+
+    @Override
+    public boolean rotate(String key, String expected, String newToken) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, Collections.singletonList(KEY_PREFIX + key),
+                expected, newToken, String.valueOf(TTL.toMillis()));
+        return result != null && result == 1L;
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.onedaypiece.web.domain.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
     Optional<RefreshToken> findByKey(String key);
+
+    // 저장된 값이 expected 일 때만 바꾼다 (조건부 update 라 동시에 와도 한 건만 바뀐다)
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.value = :newValue where t.key = :key and t.value = :expected")
+    int updateValue(String key, String expected, String newValue);
 }
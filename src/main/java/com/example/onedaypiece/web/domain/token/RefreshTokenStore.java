@@ -0,0 +1,17 @@
+package com.example.onedaypiece.web.domain.token;
+
+import java.util.Optional;
+
+/**
+ * 멤버(email)별 refresh token 저장소.
+ * refresh-token.store=redis(기본) 면 Redis 키 만료로 지우고, jpa 면 예전처럼 refresh_token 테이블을 쓴다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String key, String refreshToken);
+
+    Optional<String> find(String key);
+
+    // 저장된 값이 expected 와 같을 때만 newToken 으로 바꾼다 (동시에 재발급하면 하나만 성공)
+    boolean rotate(String key, String expected, String newToken);
+}
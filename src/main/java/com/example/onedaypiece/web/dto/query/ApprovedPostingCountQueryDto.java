@@ -0,0 +1,14 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 챌린지, 멤버별 승인된 인증글 수 (select new 용)
+@Getter
+@AllArgsConstructor
+public class ApprovedPostingCountQueryDto {
+
+    private Long challengeId;
+    private Long memberId;
+    private Long postingCount;
+}
@@ -0,0 +1,24 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 아직 인증하지 않은 오늘 포스팅 (select new 용)
+@Getter
+@AllArgsConstructor
+public class CertificationInboxQueryDto {
+
+    private Long postingId;
+    private Long challengeId;
+    private String challengeTitle;
+    private String postingImg;
+    private String postingContent;
+    private Long postingCount;
+    private boolean postingApproval;
+    private LocalDateTime createdAt;
+    private Long memberId;
+    private String nickname;
+    private String profileImg;
+}
@@ -0,0 +1,13 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 포스팅 id 와 인증한 멤버 id 한 쌍 (select new 용)
+@Getter
+@AllArgsConstructor
+public class CertificationMemberQueryDto {
+
+    private Long postingId;
+    private Long memberId;
+}
@@ -0,0 +1,16 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인증할 포스팅 정보와 챌린지 참여 인원 (select new 용, 엔티티를 올리지 않는다)
+@Getter
+@AllArgsConstructor
+public class CertificationTargetQueryDto {
+
+    private Long postingId;
+    private Long challengeId;
+    private Long writerId;
+    private boolean postingApproval;
+    private Long memberCount;
+}
@@ -0,0 +1,13 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 챌린지 id 와 참여 멤버 id 한 쌍 (select new 용)
+@Getter
+@AllArgsConstructor
+public class ChallengeMemberQueryDto {
+
+    private Long challengeId;
+    private Long memberId;
+}
@@ -0,0 +1,14 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인증 누락으로 강퇴될 참여 기록 (select new 용)
+@Getter
+@AllArgsConstructor
+public class KickTargetQueryDto {
+
+    private Long challengeRecordId;
+    private Long challengeId;
+    private Long memberId;
+}
@@ -0,0 +1,19 @@
+package com.example.onedaypiece.web.dto.query;
+
+import com.example.onedaypiece.web.domain.member.MemberRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 로그인/채팅에서 쓰는 멤버 기본 정보 (select new 용, 멤버 정보 캐시에 그대로 들어가므로 비밀번호 해시는 넣지 않는다)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberIdentityQueryDto {
+
+    private Long memberId;
+    private String email;
+    private String nickname;
+    private String profileImg;
+    private MemberRole role;
+}
@@ -0,0 +1,14 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 멤버 포인트 잔액과 포인트 내역 합계 (select new 용)
+@Getter
+@AllArgsConstructor
+public class PointBalanceQueryDto {
+
+    private Long memberId;
+    private Long acquiredPoint;
+    private Long ledgerPoint;
+}
@@ -0,0 +1,24 @@
+package com.example.onedaypiece.web.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 포스팅 피드 한 줄에 필요한 컬럼만 (select new 용, 영속성 컨텍스트에 올라가지 않는다)
+@Getter
+@AllArgsConstructor
+public class PostingFeedQueryDto {
+
+    private Long postingId;
+    private String postingImg;
+    private String postingContent;
+    private Long postingCount;
+    private boolean postingApproval;
+    private boolean postingModifyOk;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private Long memberId;
+    private String nickname;
+    private String profileImg;
+}
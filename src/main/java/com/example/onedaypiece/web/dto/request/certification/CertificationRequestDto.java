@@ -12,6 +12,11 @@ import lombok.ToString;
 public class CertificationRequestDto {
 
     private Long postingId;
-    private Long totalNumber;
+    private Long totalNumber; // 예전 클라이언트 호환용 (승인 기준은 서버에서 센 참여 인원)
+
+    public CertificationRequestDto(Long postingId, Long totalNumber) {
+        this.postingId = postingId;
+        this.totalNumber = totalNumber;
+    }
 
 }
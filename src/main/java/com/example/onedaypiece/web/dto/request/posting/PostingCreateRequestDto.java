@@ -13,6 +13,7 @@ import javax.validation.constraints.NotBlank;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PostingCreateRequestDto {
 
+    @ToString.Exclude // data URL 이 로그에 그대로 찍히지 않게
     private String postingImg;
     @NotBlank(message = "내용이 비어있어요!")
     private String postingContent;
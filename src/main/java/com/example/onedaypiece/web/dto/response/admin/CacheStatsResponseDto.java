@@ -0,0 +1,31 @@
+package com.example.onedaypiece.web.dto.response.admin;
+
+import com.example.onedaypiece.util.LruTtlCache;
+import lombok.Getter;
+
+// 메모리 캐시 적중률 확인용
+@Getter
+public class CacheStatsResponseDto {
+
+    private final String name;
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final double hitRate;
+
+    public CacheStatsResponseDto(String name, LruTtlCache<?, ?> cache) {
+        this(name, cache.size(), cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount());
+    }
+
+    // 메모리 밖(Redis) 캐시는 크기를 세지 않아서 size 를 -1 로 넘긴다
+    public CacheStatsResponseDto(String name, int size, long hitCount, long missCount, long evictionCount) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        long requestCount = hitCount + missCount;
+        this.hitRate = requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
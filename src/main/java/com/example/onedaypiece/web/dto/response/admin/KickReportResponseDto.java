@@ -0,0 +1,26 @@
+package com.example.onedaypiece.web.dto.response.admin;
+
+import com.example.onedaypiece.web.dto.query.KickTargetQueryDto;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 인증 누락 강퇴 결과 (dryRun 이면 kickedCount 는 0)
+@Getter
+public class KickReportResponseDto {
+
+    private final LocalDate certificationDate;
+    private final boolean dryRun;
+    private final int targetCount;
+    private final int kickedCount;
+    private final List<KickTargetQueryDto> targetList;
+
+    public KickReportResponseDto(LocalDate certificationDate, boolean dryRun, int kickedCount, List<KickTargetQueryDto> targetList) {
+        this.certificationDate = certificationDate;
+        this.dryRun = dryRun;
+        this.targetCount = targetList.size();
+        this.kickedCount = kickedCount;
+        this.targetList = targetList;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.onedaypiece.web.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 챌린지 시작/종료 처리 결과
+@Getter
+@AllArgsConstructor
+public class LifecycleReportResponseDto {
+
+    private final LocalDate asOf;
+    private final int startedCount;
+    private final int endedCount;
+    private final int rewardedCount;
+}
@@ -0,0 +1,19 @@
+package com.example.onedaypiece.web.dto.response.admin;
+
+import com.example.onedaypiece.web.dto.query.PointBalanceQueryDto;
+import lombok.Getter;
+
+import java.util.List;
+
+// 포인트 잔액 - 원장 대조 결과
+@Getter
+public class PointReconcileResponseDto {
+
+    private final int unbalancedCount;
+    private final List<PointBalanceQueryDto> unbalancedList;
+
+    public PointReconcileResponseDto(List<PointBalanceQueryDto> unbalancedList) {
+        this.unbalancedCount = unbalancedList.size();
+        this.unbalancedList = unbalancedList;
+    }
+}
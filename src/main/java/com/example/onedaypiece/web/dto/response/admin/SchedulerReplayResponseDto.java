@@ -0,0 +1,17 @@
+package com.example.onedaypiece.web.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 특정 날짜 자정 작업 재실행 결과
+@Getter
+@AllArgsConstructor
+public class SchedulerReplayResponseDto {
+
+    private final LocalDate asOf;
+    private final int lockedPostingCount;
+    private final KickReportResponseDto kickReport;
+    private final LifecycleReportResponseDto lifecycleReport;
+}
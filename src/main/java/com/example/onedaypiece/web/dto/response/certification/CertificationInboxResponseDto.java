@@ -0,0 +1,37 @@
+package com.example.onedaypiece.web.dto.response.certification;
+
+import com.example.onedaypiece.util.ImageUrl;
+import com.example.onedaypiece.web.dto.query.CertificationInboxQueryDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CertificationInboxResponseDto {
+
+    private final Long postingId;
+    private final Long challengeId;
+    private final String challengeTitle;
+    private final String postingImg;
+    private final String postingContent;
+    private final Long postingCount;
+    private final boolean postingApproval;
+    private final LocalDateTime createdAt;
+    private final Long memberId;
+    private final String nickName;
+    private final String profileImg;
+
+    public CertificationInboxResponseDto(CertificationInboxQueryDto posting) {
+        this.postingId = posting.getPostingId();
+        this.challengeId = posting.getChallengeId();
+        this.challengeTitle = posting.getChallengeTitle();
+        this.postingImg = ImageUrl.thumbnailOf(posting.getPostingImg());
+        this.postingContent = posting.getPostingContent();
+        this.postingCount = posting.getPostingCount();
+        this.postingApproval = posting.isPostingApproval();
+        this.createdAt = posting.getCreatedAt();
+        this.memberId = posting.getMemberId();
+        this.nickName = posting.getNickname();
+        this.profileImg = ImageUrl.thumbnailOf(posting.getProfileImg());
+    }
+}
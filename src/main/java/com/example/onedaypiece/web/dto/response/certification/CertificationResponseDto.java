@@ -1,5 +1,6 @@
 package com.example.onedaypiece.web.dto.response.certification;
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.certification.Certification;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,6 @@ public class CertificationResponseDto {
     public CertificationResponseDto(Certification certification) {
         this.memberId =certification.getMember().getMemberId();
         this.nickName=certification.getMember().getNickname();
-        this.profileImg =certification.getMember().getProfileImg();
+        this.profileImg =ImageUrl.thumbnailOf(certification.getMember().getProfileImg());
     }
 }
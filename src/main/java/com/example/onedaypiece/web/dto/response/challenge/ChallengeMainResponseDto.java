@@ -1,11 +1,10 @@
 package com.example.onedaypiece.web.dto.response.challenge;
 
-import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 @NoArgsConstructor
 @Getter
@@ -30,11 +29,8 @@ public class ChallengeMainResponseDto {
         nodrinknosmoke.add(responseDto);
     }
 
-    public void addPopular(List<ChallengeRecord> popularSource, List<ChallengeRecord> records) {
-        this.popular.addAll(popularSource
-                .stream()
-                .map(record -> (new ChallengeSourceResponseDto(record.getChallenge(), records)))
-                .collect(Collectors.toList()));
+    public void addPopular(List<ChallengeSourceResponseDto> popularSource) {
+        this.popular.addAll(popularSource);
     }
 
     public void addSlider(List<ChallengeSourceResponseDto> sliderSource) {
@@ -1,5 +1,6 @@
 package com.example.onedaypiece.web.dto.response.challenge;
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.challenge.CategoryName;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import lombok.Getter;
@@ -45,7 +46,7 @@ public class ChallengeResponseDto {
         this.challengeStartDate = challenge.getChallengeStartDate();
         this.challengeEndDate = challenge.getChallengeEndDate();
         this.challengeProgress = challenge.getChallengeProgress();
-        this.challengeImgUrl = challenge.getChallengeImgUrl();
+        this.challengeImgUrl = ImageUrl.of(challenge.getChallengeImgUrl());
         this.challengeGood = challenge.getChallengeGood();
         this.challengeBad = challenge.getChallengeBad();
         this.challengeHoliday = challenge.getChallengeHoliday();
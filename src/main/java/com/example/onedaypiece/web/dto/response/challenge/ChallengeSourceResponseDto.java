@@ -1,8 +1,9 @@
 package com.example.onedaypiece.web.dto.response.challenge;
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.challenge.CategoryName;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
-import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordIndex;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.tomcat.jni.Local;
@@ -13,7 +14,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Getter
@@ -28,18 +28,18 @@ public class ChallengeSourceResponseDto {
     private Set<Long> challengeMember;
     private final List<String> tagList = new ArrayList<>();
 
-    public ChallengeSourceResponseDto(Challenge challenge, List<ChallengeRecord> records) {
+    public ChallengeSourceResponseDto(Challenge challenge, ChallengeRecordIndex recordIndex) {
+        this(challenge, recordIndex.memberIdsOf(challenge.getChallengeId()));
+    }
+
+    public ChallengeSourceResponseDto(Challenge challenge, Set<Long> challengeMember) {
         this.challengeId = challenge.getChallengeId();
         this.challengeTitle = challenge.getChallengeTitle();
         this.categoryName = challenge.getCategoryName();
         this.challengeStartDate = challenge.getChallengeStartDate();
         this.challengeEndDate = challenge.getChallengeEndDate();
-        this.challengeImgUrl = challenge.getChallengeImgUrl();
-        this.challengeMember = records
-                .stream()
-                .filter(r -> r.getChallenge().equals(challenge))
-                .map(r -> r.getMember().getMemberId())
-                .collect(Collectors.toSet());
+        this.challengeImgUrl = ImageUrl.thumbnailOf(challenge.getChallengeImgUrl());
+        this.challengeMember = challengeMember;
         if (ChronoUnit.DAYS.between(challenge.getChallengeStartDate(), challenge.getChallengeEndDate()) <= 7) {
             tagList.add("#1주");
         } else if (ChronoUnit.DAYS.between(challenge.getChallengeStartDate(), challenge.getChallengeEndDate()) <= 14) {
@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.dto.response.member;
 
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.dto.response.mypage.histroy.MemberHistoryDto;
 import com.example.onedaypiece.web.domain.member.Member;
 import lombok.Getter;
@@ -19,7 +20,7 @@ public class MemberResponseDto {
     public MemberResponseDto(Member member, int challengeCount){
         this.memberId = member.getMemberId();
         this.nickname = member.getNickname();
-        this.profileImg = member.getProfileImg();
+        this.profileImg = ImageUrl.of(member.getProfileImg());
         this.point = member.getPoint().getAcquiredPoint();
         this.memberLevel = calculLevel(member.getPoint().getAcquiredPoint());
 
@@ -30,14 +31,14 @@ public class MemberResponseDto {
     public MemberResponseDto(MemberHistoryDto responseDto) {
         this.nickname = responseDto.getNickname();
         this.memberId = responseDto.getMemberId();
-        this.profileImg = responseDto.getProfileImg();
+        this.profileImg = ImageUrl.of(responseDto.getProfileImg());
         this.point = responseDto.getAcquiredPoint();
     }
     // 획득한게 없을경우
     public MemberResponseDto(Member member){
         this.nickname = member.getNickname();
         this.memberId = member.getMemberId();
-        this.profileImg = member.getProfileImg();
+        this.profileImg = ImageUrl.of(member.getProfileImg());
         this.point = 0L;
     }
 
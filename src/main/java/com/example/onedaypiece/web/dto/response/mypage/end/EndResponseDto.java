@@ -1,5 +1,6 @@
 package com.example.onedaypiece.web.dto.response.mypage.end;
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.challenge.CategoryName;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
@@ -36,7 +37,7 @@ public class EndResponseDto {
         this.challengeContent = challenge.getChallengeContent();
         this.categoryName = challenge.getCategoryName();
         this.challengeProgress = challenge.getChallengeProgress();
-        this.challengeImgUrl = challenge.getChallengeImgUrl();
+        this.challengeImgUrl = ImageUrl.thumbnailOf(challenge.getChallengeImgUrl());
         this.challengeMember  = challenge.getMember().getMemberId();
 
 
@@ -50,7 +51,7 @@ public class EndResponseDto {
 
     public List<String> getImg(List<ChallengeRecord> recordList){
         List<String> imageList = recordList.stream()
-                .map(challengeRecord -> challengeRecord.getMember().getProfileImg())
+                .map(challengeRecord -> ImageUrl.thumbnailOf(challengeRecord.getMember().getProfileImg()))
                 .collect(Collectors.toList());
         return imageList;
     }
@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.dto.response.mypage.end;
 
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.dto.response.mypage.CalculLevel;
 import lombok.Getter;
@@ -22,7 +23,7 @@ public class MyPageEndResponseDto {
     public MyPageEndResponseDto(Member member, List<EndResponseDto> challengeList){
         this.memberId = member.getMemberId();
         this.nickname = member.getNickname();
-        this.profileImage = member.getProfileImg();
+        this.profileImage = ImageUrl.of(member.getProfileImg());
         this.point = member.getPoint().getAcquiredPoint();
         this.challengeList = challengeList;
         this.level = CalculLevel.calculLevel(member.getPoint().getAcquiredPoint());
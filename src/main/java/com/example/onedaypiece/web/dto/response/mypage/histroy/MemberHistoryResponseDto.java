@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.dto.response.mypage.histroy;
 
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.dto.response.member.MemberResponseDto;
 import com.example.onedaypiece.web.dto.response.mypage.CalculLevel;
 import lombok.Getter;
@@ -23,7 +24,7 @@ public class MemberHistoryResponseDto {
     public MemberHistoryResponseDto(MemberResponseDto member, List<PointHistoryDto> pointHistoryList) {
         this.memberId = member.getMemberId();
         this.nickname = member.getNickname();
-        this.profileImage = member.getProfileImg();
+        this.profileImage = ImageUrl.of(member.getProfileImg());
         this.point = member.getPoint();
         this.memberLevel = CalculLevel.calculLevel(member.getPoint());
         // 포인트히스토리
@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.dto.response.mypage.proceed;
 
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.dto.response.mypage.CalculLevel;
 import lombok.Getter;
@@ -23,7 +24,7 @@ public class MypageProceedResponseDto {
     public MypageProceedResponseDto(Member member, Long totalPoint, List<ProceedResponseDto> challengeList){
         this.memberId = member.getMemberId();
         this.nickname = member.getNickname();
-        this.profileImage = member.getProfileImg();
+        this.profileImage = ImageUrl.of(member.getProfileImg());
         this.point = totalPoint;
         this.challengeList = challengeList;
         this.level = CalculLevel.calculLevel(member.getPoint().getAcquiredPoint());
@@ -1,6 +1,7 @@
 package com.example.onedaypiece.web.dto.response.mypage.proceed;
 
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.challenge.CategoryName;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
@@ -43,7 +44,7 @@ public class ProceedResponseDto {
         this.challengeContent = challenge.getChallengeContent();
         this.categoryName = challenge.getCategoryName();
         this.challengeProgress = challenge.getChallengeProgress();
-        this.challengeImgUrl = challenge.getChallengeImgUrl();
+        this.challengeImgUrl = ImageUrl.thumbnailOf(challenge.getChallengeImgUrl());
         this.challengeMember  = challenge.getMember().getMemberId();
         this.challengeStartDate = challenge.getChallengeStartDate();
         this.challengeEndDate = challenge.getChallengeEndDate();
@@ -55,7 +56,7 @@ public class ProceedResponseDto {
 
     public List<String> getImg(List<ChallengeRecord> recordList){
         List<String> imageList = recordList.stream()
-                .map(challengeRecord -> challengeRecord.getMember().getProfileImg())
+                .map(challengeRecord -> ImageUrl.thumbnailOf(challengeRecord.getMember().getProfileImg()))
                 .collect(Collectors.toList());
         return imageList;
     }
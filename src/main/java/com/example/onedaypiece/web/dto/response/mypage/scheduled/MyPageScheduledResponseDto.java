@@ -1,5 +1,6 @@
 package com.example.onedaypiece.web.dto.response.mypage.scheduled;
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.member.Member;
 import com.example.onedaypiece.web.dto.response.mypage.CalculLevel;
 import lombok.Getter;
@@ -21,7 +22,7 @@ public class MyPageScheduledResponseDto {
     public MyPageScheduledResponseDto(Member member, List<ScheduledResponseDto> challengeList){
         this.memberId = member.getMemberId();
         this.nickname = member.getNickname();
-        this.profileImage = member.getProfileImg();
+        this.profileImage = ImageUrl.of(member.getProfileImg());
         this.point = member.getPoint().getAcquiredPoint();
         this.challengeList = challengeList;
         this.level = CalculLevel.calculLevel(member.getPoint().getAcquiredPoint());
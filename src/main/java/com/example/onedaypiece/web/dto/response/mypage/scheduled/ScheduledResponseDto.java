@@ -1,5 +1,6 @@
 package com.example.onedaypiece.web.dto.response.mypage.scheduled;
 
+import com.example.onedaypiece.util.ImageUrl;
 import com.example.onedaypiece.web.domain.challenge.CategoryName;
 import com.example.onedaypiece.web.domain.challenge.Challenge;
 import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
@@ -37,7 +38,7 @@ public class ScheduledResponseDto {
         this.challengeContent = challenge.getChallengeContent();
         this.categoryName = challenge.getCategoryName();
         this.challengeProgress = challenge.getChallengeProgress();
-        this.challengeImgUrl = challenge.getChallengeImgUrl();
+        this.challengeImgUrl = ImageUrl.thumbnailOf(challenge.getChallengeImgUrl());
         this.challengeMember  = challenge.getMember().getMemberId();
         this.challengeStartDate = challenge.getChallengeStartDate();
         this.challengeEndDate = challenge.getChallengeEndDate();
@@ -50,7 +51,7 @@ public class ScheduledResponseDto {
 
     public List<String> getImg(List<ChallengeRecord> recordList){
         List<String> imageList = recordList.stream()
-                .map(challengeRecord -> challengeRecord.getMember().getProfileImg())
+                .map(challengeRecord -> ImageUrl.thumbnailOf(challengeRecord.getMember().getProfileImg()))
                 .collect(Collectors.toList());
         return imageList;
     }
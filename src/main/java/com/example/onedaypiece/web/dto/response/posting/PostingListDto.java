@@ -1,13 +1,15 @@
 package com.example.onedaypiece.web.dto.response.posting;
 
-import com.example.onedaypiece.web.domain.certification.Certification;
-import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.domain.posting.PostingCursor;
+import com.example.onedaypiece.web.dto.query.PostingFeedQueryDto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Slice;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor
@@ -15,22 +17,32 @@ import java.util.stream.Collectors;
 public class PostingListDto {
     private List<PostingResponseDto> postList;
     private boolean hasNext;
+    private String nextCursor; // 다음 요청에 그대로 넘기는 커서 (마지막 페이지면 null)
 
     @Builder
-    public PostingListDto(List<PostingResponseDto> postList, boolean hasNext) {
+    public PostingListDto(List<PostingResponseDto> postList, boolean hasNext, String nextCursor) {
         this.postList = postList;
         this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 
-    public static PostingListDto createPostingListDto(Slice<Posting> postingList, List<Certification> certificationList) {
+    // certificationMap : postingId -> 인증한 멤버 id 목록
+    public static PostingListDto createPostingListDto(Slice<PostingFeedQueryDto> postingList, Map<Long, List<Long>> certificationMap) {
+        return createPostingListDto(postingList.getContent(), postingList.hasNext(), certificationMap);
+    }
+
+    public static PostingListDto createPostingListDto(List<PostingFeedQueryDto> postingList, boolean hasNext, Map<Long, List<Long>> certificationMap) {
         List<PostingResponseDto> postingResponseDtoList = postingList
                 .stream()
-                .map(posting -> new PostingResponseDto(posting, certificationList))
+                .map(posting -> new PostingResponseDto(posting,
+                        certificationMap.getOrDefault(posting.getPostingId(), Collections.emptyList())))
                 .collect(Collectors.toList());
 
+        PostingFeedQueryDto last = hasNext ? postingList.get(postingList.size() - 1) : null;
         return PostingListDto.builder()
                 .postList(postingResponseDtoList)
-                .hasNext(postingList.hasNext())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? PostingCursor.of(last.getCreatedAt(), last.getPostingId()).encode() : null)
                 .build();
 
 
@@ -1,13 +1,12 @@
 package com.example.onedaypiece.web.dto.response.posting;
 
-import com.example.onedaypiece.web.domain.certification.Certification;
-import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.util.ImageUrl;
+import com.example.onedaypiece.web.dto.query.PostingFeedQueryDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @Getter
@@ -29,22 +28,19 @@ public class PostingResponseDto {
     // 사진필요할 때 추가
 //    private List<CertificationResponseDto> certificationUserInfo ;
 
-    public PostingResponseDto(Posting posting, List<Certification> certificationList) {
+    public PostingResponseDto(PostingFeedQueryDto posting, List<Long> certificationMemberList) {
         this.postingId = posting.getPostingId();
         this.postingContent = posting.getPostingContent();
-        this.nickName = posting.getMember().getNickname();
-        this.memberId = posting.getMember().getMemberId();
-        this.profileImg = posting.getMember().getProfileImg();
-        this.postingImg = posting.getPostingImg();
+        this.nickName = posting.getNickname();
+        this.memberId = posting.getMemberId();
+        this.profileImg = ImageUrl.thumbnailOf(posting.getProfileImg());
+        this.postingImg = ImageUrl.of(posting.getPostingImg());
         this.postingCount = posting.getPostingCount();
         this.PostingApproval = posting.isPostingApproval();
         this.postingModifyOk = posting.isPostingModifyOk();
         this.createdAt = posting.getCreatedAt();
         this.modifiedAt = posting.getModifiedAt();
-        this.memberResponseDto = certificationList.stream()
-                .filter(certification -> certification.getPosting().getPostingId().equals(posting.getPostingId()))
-                .map(certification -> certification.getMember().getMemberId())
-                .collect(Collectors.toList());
+        this.memberResponseDto = certificationMemberList;
 
 //        this.certificationUserInfo = certificationList.stream()
 //                .filter(certification -> certification.getPosting().getPostingId().equals(posting.getPostingId()))
@@ -15,4 +15,9 @@ public class ChallengeTitleSearchResponseDto {
         this.challengeTitle = challenge.getChallengeTitle();
         this.categoryName = challenge.getCategoryName();
     }
+
+    public ChallengeTitleSearchResponseDto(String challengeTitle, CategoryName categoryName) {
+        this.challengeTitle = challengeTitle;
+        this.categoryName = categoryName;
+    }
 }
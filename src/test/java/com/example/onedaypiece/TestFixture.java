@@ -0,0 +1,60 @@
+package com.example.onedaypiece;
+
+import com.example.onedaypiece.web.domain.certification.CertificationRepository;
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challenge.ChallengeRepository;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.domain.member.MemberRepository;
+import com.example.onedaypiece.web.domain.point.Point;
+import com.example.onedaypiece.web.domain.point.PointRepository;
+import com.example.onedaypiece.web.domain.pointHistory.PointHistoryRepository;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.request.challenge.ChallengeRequestDto;
+import com.example.onedaypiece.web.dto.request.signup.SignupRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 데이터 만들기/지우기.
+ * 테스트 클래스들이 같은 H2 DB 를 쓰므로, 트랜잭션 없이 커밋하는 테스트는 끝날 때 deleteAll 로 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixture {
+
+    private final MemberRepository memberRepository;
+    private final PointRepository pointRepository;
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final PostingRepository postingRepository;
+    private final CertificationRepository certificationRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // email 은 name@test.com, 닉네임은 name
+    public Member saveMember(String name) {
+        SignupRequestDto requestDto = new SignupRequestDto(name + "@test.com", "abcd123!", name, "abcd123!", "img");
+        return memberRepository.save(new Member(requestDto, pointRepository.save(new Point())));
+    }
+
+    // 운동 카테고리, 오늘부터 10일 뒤에 끝난다
+    public Challenge saveChallenge(String title, LocalDateTime startDate, Member member) {
+        return challengeRepository.save(new Challenge(new ChallengeRequestDto(title, "매일 아침 운동하기", "",
+                CategoryName.EXERCISE, startDate, LocalDateTime.now().plusDays(10),
+                "img", "good", "bad", ""), member));
+    }
+
+    // 외래 키 순서대로 전부 지운다
+    public void deleteAll() {
+        pointHistoryRepository.deleteAllInBatch();
+        certificationRepository.deleteAllInBatch();
+        postingRepository.deleteAllInBatch();
+        challengeRecordRepository.deleteAllInBatch();
+        challengeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        pointRepository.deleteAllInBatch();
+    }
+}
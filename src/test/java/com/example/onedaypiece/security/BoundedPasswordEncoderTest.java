@@ -0,0 +1,73 @@
+package com.example.onedaypiece.security;
+
+import com.example.onedaypiece.exception.ApiBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private static final int STRENGTH = 10;
+    // 톰캣 요청 스레드 역할
+    private static final int REQUEST_THREAD_COUNT = 16;
+
+    @Test
+    @DisplayName("로그인 중에는 재해시하지 않고, 예전 cost 비밀번호는 로그인 후 풀에서 다시 해시한다")
+    void upgradeEncoding() throws Exception {
+        // given
+        String oldHash = new BCryptPasswordEncoder(4).encode("abcd123!");
+        BoundedPasswordEncoder passwordEncoder = boundedEncoder(2, 8);
+        CompletableFuture<String> upgraded = new CompletableFuture<>();
+
+        // when
+        boolean matched = passwordEncoder.matches("abcd123!", oldHash);
+        passwordEncoder.upgradeLater("abcd123!", oldHash, upgraded::complete);
+        String newHash = upgraded.get(30, TimeUnit.SECONDS);
+
+        // then
+        assertTrue(matched);
+        assertFalse(passwordEncoder.upgradeEncoding(oldHash));
+        assertNotEquals(oldHash, newHash);
+        assertTrue(passwordEncoder.matches("abcd123!", newHash));
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열까지 차면 기다리지 않고 바로 거절한다")
+    void rejectWhenSaturated() throws Exception {
+        // given
+        BoundedPasswordEncoder passwordEncoder = boundedEncoder(1, 1);
+        String hash = new BCryptPasswordEncoder(STRENGTH).encode("abcd123!");
+
+        // when
+        ExecutorService requests = Executors.newFixedThreadPool(REQUEST_THREAD_COUNT);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < REQUEST_THREAD_COUNT; i++) {
+            results.add(requests.submit(() -> passwordEncoder.matches("abcd123!", hash)));
+        }
+        int rejectedCount = 0;
+        for (Future<Boolean> result : results) {
+            try {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ApiBusyException);
+                rejectedCount++;
+            }
+        }
+        requests.shutdown();
+        passwordEncoder.shutdown();
+
+        // then
+        assertTrue(rejectedCount > 0);
+    }
+
+    private BoundedPasswordEncoder boundedEncoder(int threadCount, int queueSize) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(STRENGTH), threadCount, queueSize, 10000);
+    }
+}
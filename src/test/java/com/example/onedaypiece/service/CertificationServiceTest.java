@@ -0,0 +1,146 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.TestFixture;
+import com.example.onedaypiece.exception.ApiRequestException;
+import com.example.onedaypiece.web.domain.certification.CertificationRepository;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.domain.point.PointRepository;
+import com.example.onedaypiece.web.domain.pointHistory.PointHistoryRepository;
+import com.example.onedaypiece.web.domain.posting.Posting;
+import com.example.onedaypiece.web.domain.posting.PostingRepository;
+import com.example.onedaypiece.web.dto.request.certification.CertificationRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CertificationServiceTest {
+
+    private static final int CERTIFIER_COUNT = 20;
+
+    @Autowired
+    CertificationService certificationService;
+    @Autowired
+    TestFixture testFixture;
+    @Autowired
+    PointRepository pointRepository;
+    @Autowired
+    ChallengeRecordRepository challengeRecordRepository;
+    @Autowired
+    PostingRepository postingRepository;
+    @Autowired
+    CertificationRepository certificationRepository;
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
+    // 인증은 동시에 여러 스레드에서 커밋해야 해서 트랜잭션 롤백을 못 쓴다. 끝날 때마다 비운다
+    @AfterEach
+    void tearDown() {
+        testFixture.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 명이 한 포스팅을 동시에 인증해도 인증 인원은 정확하고 포인트는 한 번만 지급된다")
+    void concurrentCertification() throws Exception {
+        // given
+        Member writer = testFixture.saveMember("writer");
+        Challenge challenge = testFixture.saveChallenge("아침 운동", LocalDateTime.now().minusDays(1), writer);
+        challengeRecordRepository.save(new ChallengeRecord(challenge, writer));
+
+        List<Member> certifiers = new ArrayList<>();
+        for (int i = 0; i < CERTIFIER_COUNT; i++) {
+            Member member = testFixture.saveMember("cert" + i);
+            challengeRecordRepository.save(new ChallengeRecord(challenge, member));
+            certifiers.add(member);
+        }
+        Posting posting = postingRepository.save(new Posting("img", "content", writer, challenge));
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CERTIFIER_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (Member member : certifiers) {
+            results.add(executor.submit(() -> {
+                ready.await();
+                return certificationService.createCertification(
+                        new CertificationRequestDto(posting.getPostingId(), 0L), member.getMemberId());
+            }));
+        }
+        ready.countDown();
+        for (Future<Boolean> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        Posting certified = postingRepository.findById(posting.getPostingId()).orElseThrow(IllegalStateException::new);
+        assertEquals((long) CERTIFIER_COUNT, certified.getPostingCount());
+        assertEquals(CERTIFIER_COUNT, certificationRepository
+                .findCertificationMemberList(Collections.singletonList(posting.getPostingId())).size());
+        assertTrue(certified.isPostingApproval());
+        // 이 테스트가 만든 멤버만 본다
+        Set<Long> memberIds = new HashSet<>();
+        memberIds.add(writer.getMemberId());
+        certifiers.forEach(member -> memberIds.add(member.getMemberId()));
+        assertTrue(pointHistoryRepository.findUnbalancedPointList().stream()
+                .noneMatch(row -> memberIds.contains(row.getMemberId())));
+        assertEquals(1L, pointRepository.findById(writer.getPoint().getPointId())
+                .orElseThrow(IllegalStateException::new)
+                .getAcquiredPoint());
+    }
+
+    @Test
+    @DisplayName("같은 포스팅을 두 번 인증하면 유니크 제약으로 막히고 인원은 한 번만 올라간다")
+    void duplicateCertification() {
+        // given
+        Member writer = testFixture.saveMember("dupWriter");
+        Member member = testFixture.saveMember("dupCert");
+        Challenge challenge = testFixture.saveChallenge("아침 운동", LocalDateTime.now().minusDays(1), writer);
+        challengeRecordRepository.save(new ChallengeRecord(challenge, writer));
+        challengeRecordRepository.save(new ChallengeRecord(challenge, member));
+        Posting posting = postingRepository.save(new Posting("img", "content", writer, challenge));
+
+        // when
+        certificationService.createCertification(new CertificationRequestDto(posting.getPostingId(), 0L), member.getMemberId());
+
+        // then
+        assertThrows(ApiRequestException.class, () -> certificationService.createCertification(
+                new CertificationRequestDto(posting.getPostingId(), 0L), member.getMemberId()));
+        Posting certified = postingRepository.findById(posting.getPostingId()).orElseThrow(IllegalStateException::new);
+        assertEquals(1L, certified.getPostingCount());
+    }
+
+    @Test
+    @DisplayName("없는 멤버로 인증하면 중복 인증으로 바꾸지 않고 외래 키 오류를 그대로 던진다")
+    void certificationByMissingMember() {
+        // given
+        Member writer = testFixture.saveMember("fkWriter");
+        Challenge challenge = testFixture.saveChallenge("아침 운동", LocalDateTime.now().minusDays(1), writer);
+        challengeRecordRepository.save(new ChallengeRecord(challenge, writer));
+        Posting posting = postingRepository.save(new Posting("img", "content", writer, challenge));
+
+        // when, then
+        assertThrows(DataIntegrityViolationException.class, () -> certificationService.createCertification(
+                new CertificationRequestDto(posting.getPostingId(), 0L), Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.TestFixture;
+import com.example.onedaypiece.web.domain.challenge.CategoryName;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecord;
+import com.example.onedaypiece.web.domain.challengeRecord.ChallengeRecordRepository;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.dto.response.challenge.ChallengeListResponseDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ChallengeSearchServiceTest {
+
+    private static final int CHALLENGE_COUNT = 8;
+    private static final int MEMBER_COUNT = 5;
+
+    @Autowired
+    ChallengeSearchService challengeSearchService;
+    @Autowired
+    ChallengeSearchIndex challengeSearchIndex;
+    @Autowired
+    TestFixture testFixture;
+    @Autowired
+    ChallengeRecordRepository challengeRecordRepository;
+    @Autowired
+    EntityManager em;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(testFixture.saveMember("search" + i));
+        }
+        for (int i = 0; i < CHALLENGE_COUNT; i++) {
+            Challenge challenge = testFixture.saveChallenge("아침 운동 " + i, LocalDateTime.now().plusDays(3), members.get(0));
+            members.forEach(member -> challengeRecordRepository.save(new ChallengeRecord(challenge, member)));
+        }
+        em.flush();
+        em.clear();
+        challengeSearchIndex.rebuild();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리 조회는 챌린지 수와 상관없이 쿼리 2번 (챌린지 + 참여 멤버)")
+    void categoryQueryCount() {
+        ChallengeListResponseDto responseDto = challengeSearchService.getChallengeByCategoryName(CategoryName.EXERCISE, 1);
+
+        assertEquals(CHALLENGE_COUNT, responseDto.getResult().size());
+        responseDto.getResult()
+                .forEach(challenge -> assertEquals(MEMBER_COUNT, challenge.getChallengeMember().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("검색은 챌린지 수와 상관없이 쿼리 2번 (챌린지 + 참여 멤버)")
+    void searchQueryCount() {
+        ChallengeListResponseDto responseDto = challengeSearchService.getChallengeSearchResult("운동", 1);
+
+        assertEquals(CHALLENGE_COUNT, responseDto.getResult().size());
+        responseDto.getResult()
+                .forEach(challenge -> assertEquals(MEMBER_COUNT, challenge.getChallengeMember().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
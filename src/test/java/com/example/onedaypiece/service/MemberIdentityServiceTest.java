@@ -0,0 +1,87 @@
+package com.example.onedaypiece.service;
+
+import com.example.onedaypiece.TestFixture;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.dto.query.MemberIdentityQueryDto;
+import com.example.onedaypiece.web.dto.request.mypage.ProfileUpdateRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class MemberIdentityServiceTest {
+
+    @Autowired
+    MemberIdentityService memberIdentityService;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    CustomUserDetailsService customUserDetailsService;
+    @Autowired
+    TestFixture testFixture;
+
+    // 서비스가 직접 커밋하므로 트랜잭션 롤백 대신 끝나고 지운다
+    @AfterEach
+    void tearDown() {
+        testFixture.deleteAll();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 나오고, 프로필을 바꾸면 바뀐 닉네임을 다시 읽는다")
+    void evictOnProfileUpdate() {
+        // given
+        Member member = testFixture.saveMember("identity");
+        long hitCount = memberIdentityService.getStats().getHitCount();
+
+        // when
+        MemberIdentityQueryDto first = memberIdentityService.findIdentity(member.getEmail()).orElseThrow(IllegalStateException::new);
+        MemberIdentityQueryDto second = memberIdentityService.findIdentity(member.getEmail()).orElseThrow(IllegalStateException::new);
+        memberService.updateProfile(new ProfileUpdateRequestDto("renamed", "img"), member.getEmail());
+        MemberIdentityQueryDto updated = memberIdentityService.findIdentity(member.getEmail()).orElseThrow(IllegalStateException::new);
+
+        // then
+        assertEquals(member.getMemberId(), first.getMemberId());
+        assertEquals("identity", second.getNickname());
+        assertEquals(hitCount + 1, memberIdentityService.getStats().getHitCount());
+        assertEquals("renamed", updated.getNickname());
+    }
+
+    @Test
+    @DisplayName("없는 email 은 캐시에 남기지 않아서 가입 직후 바로 찾을 수 있다")
+    void missingMemberIsNotCached() {
+        // given
+        String email = "later@test.com";
+
+        // when
+        boolean foundBeforeSignup = memberIdentityService.findIdentity(email).isPresent();
+        testFixture.saveMember("later");
+
+        // then
+        assertFalse(foundBeforeSignup);
+        assertEquals("later", memberIdentityService.findIdentity(email)
+                .orElseThrow(IllegalStateException::new).getNickname());
+    }
+
+    @Test
+    @DisplayName("로그인은 캐시된 기본 정보를 써도 비밀번호 해시는 DB 에서 바로 읽는다")
+    void passwordIsReadFromDatabase() {
+        // given
+        Member member = testFixture.saveMember("hash");
+        memberIdentityService.findIdentity(member.getEmail());
+        UserDetails user = customUserDetailsService.loadUserByUsername(member.getEmail());
+
+        // when
+        customUserDetailsService.updatePassword(user, "rehashed");
+
+        // then
+        assertEquals("rehashed", customUserDetailsService.loadUserByUsername(member.getEmail()).getPassword());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.onedaypiece.web.domain.posting;
+
+import com.example.onedaypiece.TestFixture;
+import com.example.onedaypiece.web.domain.challenge.Challenge;
+import com.example.onedaypiece.web.domain.member.Member;
+import com.example.onedaypiece.web.dto.query.PostingFeedQueryDto;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class PostingRepositoryTest {
+
+    private static final int POSTING_COUNT = 20;
+    private static final int PAGE_SIZE = 6;
+
+    @Autowired
+    PostingRepository postingRepository;
+    @Autowired
+    TestFixture testFixture;
+    @Autowired
+    EntityManager em;
+
+    Challenge challenge;
+
+    @BeforeEach
+    void setUp() {
+        Member member = testFixture.saveMember("feed");
+        challenge = testFixture.saveChallenge("아침 운동", LocalDateTime.now().minusDays(1), member);
+        for (int i = 0; i < POSTING_COUNT; i++) {
+            postingRepository.save(new Posting("img" + i, "content" + i, member, challenge));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("피드 조회는 엔티티를 영속성 컨텍스트에 올리지 않는다")
+    void feedSkipsPersistenceContext() {
+        // when
+        Slice<PostingFeedQueryDto> feed = postingRepository.findPostingFeedList(
+                challenge.getChallengeId(), PageRequest.of(0, PAGE_SIZE));
+
+        // then
+        assertEquals(PAGE_SIZE, feed.getContent().size());
+        assertEquals("feed", feed.getContent().get(0).getNickname());
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.onedaypiece.web.domain.token;
+
+import com.example.onedaypiece.security.TokenProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisRefreshTokenStoreTest {
+
+    private static final int REDIS_PORT = 16379;
+    private static final int THREAD_COUNT = 20;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisRefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        refreshTokenStore = new RedisRefreshTokenStore(stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("저장한 토큰은 refresh token 유효기간만큼만 남는다")
+    void saveWithTtl() {
+        // when
+        refreshTokenStore.save("ttl@test.com", "token");
+
+        // then
+        assertEquals("token", refreshTokenStore.find("ttl@test.com").orElseThrow(IllegalStateException::new));
+        Long expireMillis = stringRedisTemplate.getExpire("REFRESH_TOKEN:ttl@test.com", TimeUnit.MILLISECONDS);
+        assertNotNull(expireMillis);
+        assertTrue(expireMillis > 0 && expireMillis <= TokenProvider.REFRESH_TOKEN_EXPIRE_TIME);
+        assertFalse(refreshTokenStore.find("nobody@test.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("저장된 값과 같을 때만 교체되고, 교체하면 만료 시간도 새로 잡힌다")
+    void rotate() {
+        // given
+        refreshTokenStore.save("rotate@test.com", "old");
+        stringRedisTemplate.expire("REFRESH_TOKEN:rotate@test.com", 10, TimeUnit.SECONDS);
+
+        // when
+        boolean staleRotated = refreshTokenStore.rotate("rotate@test.com", "other", "new");
+        boolean rotated = refreshTokenStore.rotate("rotate@test.com", "old", "new");
+        boolean missingRotated = refreshTokenStore.rotate("missing@test.com", "old", "new");
+
+        // then
+        assertFalse(staleRotated);
+        assertTrue(rotated);
+        assertFalse(missingRotated);
+        assertEquals("new", refreshTokenStore.find("rotate@test.com").orElseThrow(IllegalStateException::new));
+        assertTrue(stringRedisTemplate.getExpire("REFRESH_TOKEN:rotate@test.com", TimeUnit.SECONDS) > 10);
+        assertFalse(refreshTokenStore.find("missing@test.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("같은 refresh token 으로 동시에 재발급하면 한 번만 교체된다")
+    void concurrentRotate() throws Exception {
+        // given
+        refreshTokenStore.save("race@test.com", "old");
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String newToken = "new" + i;
+            results.add(executor.submit(() -> {
+                ready.await();
+                return refreshTokenStore.rotate("race@test.com", "old", newToken);
+            }));
+        }
+        ready.countDown();
+        int rotatedCount = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                rotatedCount++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, rotatedCount);
+        assertTrue(refreshTokenStore.find("race@test.com").orElseThrow(IllegalStateException::new).startsWith("new"));
+    }
+}